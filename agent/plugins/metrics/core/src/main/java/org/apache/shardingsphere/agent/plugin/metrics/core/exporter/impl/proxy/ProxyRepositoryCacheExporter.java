@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.mode.repository.cluster.cache.CachedClusterPersistRepository;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy repository cache exporter.
+ */
+public final class ProxyRepositoryCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_repository_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Local cache of cluster repository of ShardingSphere-Proxy. hit_count is cache hit count; miss_count is cache miss count; hit_rate is cache hit rate",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        PersistRepository repository = ProxyContext.getInstance().getContextManager().getPersistServiceFacade().getRepository();
+        if (!(repository instanceof CachedClusterPersistRepository)) {
+            return Optional.empty();
+        }
+        CachedClusterPersistRepository cachedRepository = (CachedClusterPersistRepository) repository;
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("hit_count"), cachedRepository.getHitCount());
+        result.addMetric(Collections.singletonList("miss_count"), cachedRepository.getMissCount());
+        result.addMetric(Collections.singletonList("hit_rate"), cachedRepository.getHitRate());
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+import io.netty.handler.codec.DecoderException;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression codec for MySQL, which wraps MySQL packets into zlib compressed packets when the client requested {@code CLIENT_COMPRESS}.
+ *
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_basic_compression_packet.html">Compressed Packet</a>
+ */
+public final class MySQLCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MIN_COMPRESS_LENGTH = 50;
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final Deflater deflater = new Deflater();
+    
+    private int compressedSequenceId;
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) {
+        if (in.readableBytes() < HEADER_LENGTH) {
+            return;
+        }
+        int compressedLength = in.markReaderIndex().readUnsignedMediumLE();
+        int sequenceId = in.readUnsignedByte();
+        int uncompressedLength = in.readUnsignedMediumLE();
+        if (in.readableBytes() < compressedLength) {
+            in.resetReaderIndex();
+            return;
+        }
+        compressedSequenceId = sequenceId + 1;
+        out.add(0 == uncompressedLength ? in.readRetainedSlice(compressedLength) : inflate(in.readSlice(compressedLength), uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ByteBuf compressed, final int uncompressedLength) {
+        byte[] result = new byte[uncompressedLength];
+        inflater.reset();
+        inflater.setInput(ByteBufUtil.getBytes(compressed));
+        try {
+            int inflatedLength = 0;
+            while (inflatedLength < uncompressedLength && !inflater.finished()) {
+                int length = inflater.inflate(result, inflatedLength, uncompressedLength - inflatedLength);
+                if (0 == length && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += length;
+            }
+            if (inflatedLength != uncompressedLength) {
+                throw new DecoderException(String.format("Expected %d bytes after decompression, but got %d bytes.", uncompressedLength, inflatedLength));
+            }
+        } catch (final DataFormatException ex) {
+            throw new DecoderException(ex);
+        }
+        return Unpooled.wrappedBuffer(result);
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final ByteBuf message, final ByteBuf out) {
+        while (message.isReadable()) {
+            ByteBuf packet = message.readSlice(Math.min(message.readableBytes(), MAX_PACKET_LENGTH));
+            byte[] compressed = packet.readableBytes() < MIN_COMPRESS_LENGTH ? null : deflate(packet);
+            if (null == compressed || compressed.length >= packet.readableBytes()) {
+                writeHeader(out, packet.readableBytes(), 0);
+                out.writeBytes(packet);
+            } else {
+                writeHeader(out, compressed.length, packet.readableBytes());
+                out.writeBytes(compressed);
+            }
+        }
+    }
+    
+    private byte[] deflate(final ByteBuf packet) {
+        deflater.reset();
+        deflater.setInput(ByteBufUtil.getBytes(packet));
+        deflater.finish();
+        byte[] buffer = new byte[packet.readableBytes()];
+        int deflatedLength = 0;
+        while (!deflater.finished() && deflatedLength < buffer.length) {
+            deflatedLength += deflater.deflate(buffer, deflatedLength, buffer.length - deflatedLength);
+        }
+        if (!deflater.finished()) {
+            return null;
+        }
+        byte[] result = new byte[deflatedLength];
+        System.arraycopy(buffer, 0, result, 0, deflatedLength);
+        return result;
+    }
+    
+    private void writeHeader(final ByteBuf out, final int payloadLength, final int uncompressedLength) {
+        out.writeMediumLE(payloadLength);
+        out.writeByte(compressedSequenceId++);
+        out.writeMediumLE(uncompressedLength);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        super.handlerRemoved(context);
+        inflater.end();
+        deflater.end();
+    }
+}
@@ -27,7 +27,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.e
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,9 +49,9 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
     
     private final MySQLNullBitmap columnsPresentBitmap2;
     
-    private final List<Serializable[]> rows = new LinkedList<>();
+    private final List<Serializable[]> rows = new ArrayList<>();
     
-    private final List<Serializable[]> rows2 = new LinkedList<>();
+    private final List<Serializable[]> rows2 = new ArrayList<>();
     
     public MySQLBinlogRowsEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         super(binlogEventHeader);
@@ -99,6 +99,18 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
         }
     }
     
+    /**
+     * Skip rows in binlog without decoding column values.
+     *
+     * @param payload ROWS_EVENT packet payload
+     */
+    public void skipRows(final MySQLPacketPayload payload) {
+        int remainBytesLength = getRemainBytesLength(payload);
+        if (remainBytesLength > 0) {
+            payload.skipReserved(remainBytesLength);
+        }
+    }
+    
     private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
         MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, payload);
         Serializable[] result = new Serializable[columnNumber];
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class MySQLCompressionCodecTest {
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    
+    @Test
+    void assertEncodeAndDecodeSmallPacketWithoutCompression() {
+        byte[] expected = "select 1".getBytes(StandardCharsets.UTF_8);
+        ByteBuf encoded = Unpooled.buffer();
+        new MySQLCompressionCodec().encode(context, Unpooled.wrappedBuffer(expected), encoded);
+        assertThat(encoded.getUnsignedMediumLE(0), is(expected.length));
+        assertThat(encoded.getUnsignedMediumLE(4), is(0));
+        assertThat(ByteBufUtil.getBytes(decode(encoded)), is(expected));
+    }
+    
+    @Test
+    void assertEncodeAndDecodeLargePacketWithCompression() {
+        StringBuilder sql = new StringBuilder("select * from t_order where order_id in (0");
+        for (int i = 1; i < 1000; i++) {
+            sql.append(", ").append(i % 10);
+        }
+        byte[] expected = sql.append(')').toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuf encoded = Unpooled.buffer();
+        new MySQLCompressionCodec().encode(context, Unpooled.wrappedBuffer(expected), encoded);
+        assertTrue(encoded.getUnsignedMediumLE(0) < expected.length);
+        assertThat(encoded.getUnsignedMediumLE(4), is(expected.length));
+        assertThat(ByteBufUtil.getBytes(decode(encoded)), is(expected));
+    }
+    
+    @Test
+    void assertDecodeIncompletePacket() {
+        ByteBuf in = Unpooled.buffer().writeMediumLE(10).writeByte(0).writeMediumLE(0).writeBytes(new byte[5]);
+        List<Object> out = new LinkedList<>();
+        new MySQLCompressionCodec().decode(context, in, out);
+        assertTrue(out.isEmpty());
+        assertThat(in.readerIndex(), is(0));
+    }
+    
+    @Test
+    void assertSequenceIdFollowsDecodedPacket() {
+        MySQLCompressionCodec codec = new MySQLCompressionCodec();
+        codec.decode(context, Unpooled.buffer().writeMediumLE(1).writeByte(3).writeMediumLE(0).writeByte(1), new LinkedList<>());
+        ByteBuf encoded = Unpooled.buffer();
+        codec.encode(context, Unpooled.wrappedBuffer(new byte[]{1}), encoded);
+        assertThat(encoded.getUnsignedByte(3), is((short) 4));
+    }
+    
+    private ByteBuf decode(final ByteBuf in) {
+        List<Object> out = new LinkedList<>();
+        new MySQLCompressionCodec().decode(context, in, out);
+        assertThat(out.size(), is(1));
+        return (ByteBuf) out.get(0);
+    }
+}
@@ -18,79 +18,74 @@
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
-import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Aggregated command packet for PostgreSQL.
+ *
+ * <p>Consecutive Bind/Execute packets referring to the same prepared statement and portal are detected as batched statements,
+ * every batch is described by its begin index and end index (inclusive) in the packets.</p>
+ */
 @Getter
 public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPacket {
     
+    private static final int MIN_BATCHED_EXECUTE_COUNT = 3;
+    
     private final List<PostgreSQLCommandPacket> packets;
     
     private final boolean containsBatchedStatements;
     
-    private final int batchPacketBeginIndex;
-    
-    private final int batchPacketEndIndex;
+    private final Map<Integer, Integer> batchPacketIndexes;
     
     public PostgreSQLAggregatedCommandPacket(final List<PostgreSQLCommandPacket> packets) {
         this.packets = packets;
-        String firstStatementId = null;
-        String firstPortal = null;
-        int parsePacketCount = 0;
-        int bindPacketCountForFirstStatement = 0;
-        int executePacketCountForFirstStatement = 0;
-        int batchPacketBeginIndex = -1;
-        int batchPacketEndIndex = -1;
+        batchPacketIndexes = findBatchPacketIndexes(packets);
+        containsBatchedStatements = !batchPacketIndexes.isEmpty();
+    }
+    
+    private Map<Integer, Integer> findBatchPacketIndexes(final List<PostgreSQLCommandPacket> packets) {
+        Map<Integer, Integer> result = new LinkedHashMap<>();
+        BatchCandidate candidate = null;
         int index = 0;
         for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComParsePacket) {
-                if (++parsePacketCount > 1) {
-                    break;
-                }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComParsePacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComParsePacket) each).getStatementId())) {
-                    break;
-                }
-            }
             if (each instanceof PostgreSQLComBindPacket) {
-                if (-1 == batchPacketBeginIndex) {
-                    batchPacketBeginIndex = index;
+                PostgreSQLComBindPacket bindPacket = (PostgreSQLComBindPacket) each;
+                if (null == candidate || !candidate.isSameStatement(bindPacket)) {
+                    appendBatchPacketIndexes(candidate, result);
+                    candidate = new BatchCandidate(bindPacket.getStatementId(), bindPacket.getPortal(), index);
                 }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComBindPacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
-                    break;
+                candidate.bindPacketCount++;
+            } else if (each instanceof PostgreSQLComExecutePacket) {
+                if (null != candidate && candidate.portal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
+                    candidate.markExecute(index);
+                } else {
+                    appendBatchPacketIndexes(candidate, result);
+                    candidate = null;
                 }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComBindPacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
-                    break;
-                }
-                bindPacketCountForFirstStatement++;
-            }
-            if (each instanceof PostgreSQLComExecutePacket) {
-                if (index > batchPacketEndIndex) {
-                    batchPacketEndIndex = index;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComExecutePacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
-                    break;
-                }
-                executePacketCountForFirstStatement++;
+            } else if (!(each instanceof PostgreSQLComDescribePacket)) {
+                appendBatchPacketIndexes(candidate, result);
+                candidate = null;
             }
             index++;
         }
-        this.batchPacketBeginIndex = batchPacketBeginIndex;
-        this.batchPacketEndIndex = batchPacketEndIndex;
-        containsBatchedStatements = bindPacketCountForFirstStatement == executePacketCountForFirstStatement && bindPacketCountForFirstStatement >= 3;
+        appendBatchPacketIndexes(candidate, result);
+        return result;
+    }
+    
+    private void appendBatchPacketIndexes(final BatchCandidate candidate, final Map<Integer, Integer> batchPacketIndexes) {
+        if (null != candidate && candidate.balancedExecutePacketCount >= MIN_BATCHED_EXECUTE_COUNT) {
+            batchPacketIndexes.put(candidate.beginIndex, candidate.balancedEndIndex);
+        }
     }
     
     @Override
@@ -101,4 +96,34 @@ public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPa
     public PostgreSQLIdentifierTag getIdentifier() {
         return () -> '?';
     }
+    
+    @RequiredArgsConstructor
+    private static final class BatchCandidate {
+        
+        private final String statementId;
+        
+        private final String portal;
+        
+        private final int beginIndex;
+        
+        private int bindPacketCount;
+        
+        private int executePacketCount;
+        
+        private int balancedExecutePacketCount;
+        
+        private int balancedEndIndex;
+        
+        private boolean isSameStatement(final PostgreSQLComBindPacket bindPacket) {
+            return statementId.equals(bindPacket.getStatementId()) && portal.equals(bindPacket.getPortal()) && bindPacketCount == executePacketCount;
+        }
+        
+        private void markExecute(final int index) {
+            executePacketCount++;
+            if (bindPacketCount == executePacketCount) {
+                balancedExecutePacketCount = executePacketCount;
+                balancedEndIndex = index;
+            }
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended;
+
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    void assertSingleBatchedStatements() {
+        PostgreSQLCommandPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLCommandPacket executePacket = mockExecutePacket();
+        PostgreSQLCommandPacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.asList(mock(PostgreSQLComParsePacket.class),
+                bindPacket, describePacket, executePacket, bindPacket, executePacket, bindPacket, executePacket, mock(PostgreSQLComSyncPacket.class)));
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchPacketIndexes(), is(Collections.singletonMap(1, 7)));
+    }
+    
+    @Test
+    void assertMultipleBatchedStatements() {
+        PostgreSQLCommandPacket firstBindPacket = mockBindPacket("S_1");
+        PostgreSQLCommandPacket secondBindPacket = mockBindPacket("S_2");
+        PostgreSQLCommandPacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.asList(
+                firstBindPacket, executePacket, firstBindPacket, executePacket, firstBindPacket, executePacket,
+                secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, secondBindPacket, executePacket, mock(PostgreSQLComSyncPacket.class)));
+        assertTrue(actual.isContainsBatchedStatements());
+        Map<Integer, Integer> expected = new LinkedHashMap<>(2, 1F);
+        expected.put(0, 5);
+        expected.put(6, 13);
+        assertThat(actual.getBatchPacketIndexes(), is(expected));
+    }
+    
+    @Test
+    void assertBatchedStatementsInterruptedByParse() {
+        PostgreSQLCommandPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLCommandPacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.asList(
+                bindPacket, executePacket, bindPacket, executePacket, mock(PostgreSQLComParsePacket.class), bindPacket, executePacket, mock(PostgreSQLComSyncPacket.class)));
+        assertFalse(actual.isContainsBatchedStatements());
+    }
+    
+    @Test
+    void assertBatchedStatementsWithUnbalancedBind() {
+        PostgreSQLCommandPacket bindPacket = mockBindPacket("S_1");
+        PostgreSQLCommandPacket executePacket = mockExecutePacket();
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(Arrays.asList(
+                bindPacket, executePacket, bindPacket, executePacket, bindPacket, executePacket, bindPacket, mock(PostgreSQLComSyncPacket.class)));
+        assertThat(actual.getBatchPacketIndexes(), is(Collections.singletonMap(0, 5)));
+    }
+    
+    private PostgreSQLCommandPacket mockBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLCommandPacket mockExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+}
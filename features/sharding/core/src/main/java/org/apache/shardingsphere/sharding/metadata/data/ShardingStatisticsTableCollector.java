@@ -39,9 +39,13 @@ import javax.sql.DataSource;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 /**
@@ -76,6 +80,8 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
     
     private void collectForShardingStatisticTable(final ShardingSphereDatabase database, final ShardingRule rule, final ShardingSphereTableData tableData) throws SQLException {
         int count = 1;
+        Collection<List<Object>> rows = new LinkedList<>();
+        Map<String, Collection<Entry<DataNode, List<Object>>>> dataSourceRows = new LinkedHashMap<>();
         for (ShardingTable each : rule.getShardingTables().values()) {
             for (DataNode dataNode : each.getActualDataNodes()) {
                 List<Object> row = new LinkedList<>();
@@ -84,41 +90,55 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereSta
                 row.add(each.getLogicTable());
                 row.add(dataNode.getDataSourceName());
                 row.add(dataNode.getTableName());
-                addTableRowsAndDataLength(database.getResourceMetaData().getStorageUnits(), dataNode, row, rule);
-                tableData.getRows().add(new ShardingSphereRowData(row));
+                rows.add(row);
+                dataSourceRows.computeIfAbsent(dataNode.getDataSourceName(), key -> new LinkedList<>()).add(new SimpleEntry<>(dataNode, row));
             }
         }
+        for (Entry<String, Collection<Entry<DataNode, List<Object>>>> entry : dataSourceRows.entrySet()) {
+            addTableRowsAndDataLength(database.getResourceMetaData().getStorageUnits(), entry.getKey(), entry.getValue(), rule);
+        }
+        for (List<Object> each : rows) {
+            tableData.getRows().add(new ShardingSphereRowData(each));
+        }
     }
     
-    private void addTableRowsAndDataLength(final Map<String, StorageUnit> storageUnits, final DataNode dataNode, final List<Object> row, final ShardingRule rule) throws SQLException {
+    private void addTableRowsAndDataLength(final Map<String, StorageUnit> storageUnits, final String dataSourceName,
+                                           final Collection<Entry<DataNode, List<Object>>> dataNodeRows, final ShardingRule rule) throws SQLException {
         DataSource dataSource;
         DatabaseType databaseType;
-        StorageUnit storageUnit = storageUnits.get(dataNode.getDataSourceName());
+        StorageUnit storageUnit = storageUnits.get(dataSourceName);
         if (null != storageUnit) {
             dataSource = storageUnit.getDataSource();
             databaseType = storageUnit.getStorageType();
         } else {
             Optional<AggregatedDataSourceRuleAttribute> aggregatedDataSourceRuleAttribute = rule.getAttributes().findAttribute(AggregatedDataSourceRuleAttribute.class);
-            dataSource = aggregatedDataSourceRuleAttribute.map(optional -> optional.getAggregatedDataSources().get(dataNode.getDataSourceName())).orElse(null);
+            dataSource = aggregatedDataSourceRuleAttribute.map(optional -> optional.getAggregatedDataSources().get(dataSourceName)).orElse(null);
             databaseType = null != dataSource ? DatabaseTypeEngine.getStorageType(dataSource) : null;
         }
-        if (null != dataSource && null != databaseType) {
-            addTableRowsAndDataLength(databaseType, dataSource, dataNode, row);
+        Optional<DialectShardingStatisticsTableCollector> dialectCollector = null != dataSource && null != databaseType
+                ? DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, databaseType)
+                : Optional.empty();
+        if (dialectCollector.isPresent()) {
+            addTableRowsAndDataLength(dialectCollector.get(), dataSource, dataNodeRows);
+        } else {
+            dataNodeRows.forEach(each -> addDefaultTableRowsAndDataLength(each.getValue()));
         }
     }
     
-    private void addTableRowsAndDataLength(final DatabaseType databaseType, final DataSource dataSource, final DataNode dataNode, final List<Object> row) throws SQLException {
-        boolean isAppended = false;
-        Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, databaseType);
-        if (dialectCollector.isPresent()) {
-            try (Connection connection = dataSource.getConnection()) {
-                isAppended = dialectCollector.get().appendRow(connection, dataNode, row);
+    private void addTableRowsAndDataLength(final DialectShardingStatisticsTableCollector dialectCollector, final DataSource dataSource,
+                                           final Collection<Entry<DataNode, List<Object>>> dataNodeRows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (Entry<DataNode, List<Object>> each : dataNodeRows) {
+                if (!dialectCollector.appendRow(connection, each.getKey(), each.getValue())) {
+                    addDefaultTableRowsAndDataLength(each.getValue());
+                }
             }
         }
-        if (!isAppended) {
-            row.add(BigDecimal.ZERO);
-            row.add(BigDecimal.ZERO);
-        }
+    }
+    
+    private void addDefaultTableRowsAndDataLength(final List<Object> row) {
+        row.add(BigDecimal.ZERO);
+        row.add(BigDecimal.ZERO);
     }
     
     @Override
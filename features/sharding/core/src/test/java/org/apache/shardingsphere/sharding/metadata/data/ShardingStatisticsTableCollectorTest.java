@@ -29,12 +29,15 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.statistics.collector.ShardingSphereStatisticsCollector;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,8 +52,10 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ShardingStatisticsTableCollectorTest {
@@ -93,4 +98,29 @@ class ShardingStatisticsTableCollectorTest {
         assertThat(actualRows.get(0).getRows(), is(Arrays.asList(1, "foo_db", "foo_tbl", "ds_0", "foo_tbl", new BigDecimal("0"), new BigDecimal("0"))));
         assertThat(actualRows.get(1).getRows(), is(Arrays.asList(2, "foo_db", "foo_tbl", "ds_1", "foo_tbl", new BigDecimal("0"), new BigDecimal("0"))));
     }
+    
+    @Test
+    void assertCollectWithOneConnectionPerDataSource() throws SQLException {
+        ShardingRule rule = mock(ShardingRule.class);
+        ShardingTable shardingTable = new ShardingTable(new ShardingTableRuleConfiguration("foo_tbl", "ds_0.foo_tbl_${0..1}"), Collections.singleton("ds_0"), null);
+        when(rule.getShardingTables()).thenReturn(Collections.singletonMap("foo_tbl", shardingTable));
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getDataSource().getConnection()).thenReturn(connection);
+        ResultSet resultSet = connection.prepareStatement(anyString()).executeQuery();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(BigDecimal.TEN);
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(BigDecimal.ONE);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", databaseType,
+                new ResourceMetaData(Collections.emptyMap(), Collections.singletonMap("ds_0", storageUnit)), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), new ConfigurationProperties(new Properties()));
+        Optional<ShardingSphereTableData> actual = statisticsCollector.collect("foo_db", mock(ShardingSphereTable.class), metaData);
+        assertTrue(actual.isPresent());
+        List<ShardingSphereRowData> actualRows = new ArrayList<>(actual.get().getRows());
+        assertThat(actualRows.size(), is(2));
+        assertThat(actualRows.get(0).getRows(), is(Arrays.asList(1, "foo_db", "foo_tbl", "ds_0", "foo_tbl_0", BigDecimal.TEN, BigDecimal.ONE)));
+        assertThat(actualRows.get(1).getRows(), is(Arrays.asList(2, "foo_db", "foo_tbl", "ds_0", "foo_tbl_1", BigDecimal.TEN, BigDecimal.ONE)));
+        verify(storageUnit.getDataSource()).getConnection();
+    }
 }
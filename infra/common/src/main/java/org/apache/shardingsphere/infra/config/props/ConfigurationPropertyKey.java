@@ -69,6 +69,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Max connections size of each storage unit for loading table metadata.
+     */
+    LOAD_TABLE_METADATA_MAX_CONNECTIONS_SIZE("load-table-metadata-max-connections-size", String.valueOf(8), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -105,6 +110,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Proxy Netty transport, supports AUTO, EPOLL and NIO.
+     */
+    PROXY_NETTY_TRANSPORT("proxy-netty-transport", "AUTO", String.class, true),
+    
+    /**
+     * Proxy Netty acceptor size, listening sockets are bound with SO_REUSEPORT when it is greater than 1 and epoll transport is used.
+     */
+    PROXY_NETTY_ACCEPTOR_SIZE("proxy-netty-acceptor-size", "1", int.class, true),
+    
+    /**
+     * Proxy Netty write buffer low water mark in bytes.
+     */
+    PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK("proxy-netty-write-buffer-low-water-mark", String.valueOf(32 * 1024), int.class, true),
+    
+    /**
+     * Proxy Netty write buffer high water mark in bytes.
+     */
+    PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK("proxy-netty-write-buffer-high-water-mark", String.valueOf(64 * 1024), int.class, true),
+    
+    /**
+     * Proxy Netty direct arena size of pooled buffer allocator, 0 means using default pooled buffer allocator.
+     */
+    PROXY_NETTY_DIRECT_ARENA_SIZE("proxy-netty-direct-arena-size", "0", int.class, true),
+    
+    /**
+     * Proxy Netty TCP quick ack enabled, only takes effect with epoll transport.
+     */
+    PROXY_NETTY_TCP_QUICKACK("proxy-netty-tcp-quickack", String.valueOf(Boolean.TRUE), boolean.class, true),
+    
     /**
      * CDC server port.
      */
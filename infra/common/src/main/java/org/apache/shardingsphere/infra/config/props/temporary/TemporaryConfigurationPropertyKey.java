@@ -40,7 +40,12 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * System schema metadata assembly enabled.
      */
-    SYSTEM_SCHEMA_METADATA_ASSEMBLY_ENABLED("system-schema-metadata-assembly-enabled", String.valueOf(Boolean.TRUE), boolean.class, true);
+    SYSTEM_SCHEMA_METADATA_ASSEMBLY_ENABLED("system-schema-metadata-assembly-enabled", String.valueOf(Boolean.TRUE), boolean.class, true),
+    
+    /**
+     * Meta data compact format enabled.
+     */
+    META_DATA_COMPACT_FORMAT_ENABLED("meta-data-compact-format-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
     
     private final String key;
     
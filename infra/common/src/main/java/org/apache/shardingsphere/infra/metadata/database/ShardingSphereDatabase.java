@@ -32,14 +32,17 @@ import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericS
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.builder.SystemSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -108,6 +111,64 @@ public final class ShardingSphereDatabase {
         return new ShardingSphereDatabase(name, protocolType, resourceMetaData, new RuleMetaData(databaseRules), schemas.values());
     }
     
+    /**
+     * Create database by changed tables.
+     *
+     * <p>Only changed tables and tables absent from original database are loaded from storage units, other tables and views are shared with original database.</p>
+     *
+     * @param originalDatabase original database
+     * @param databaseConfig database configuration
+     * @param props configuration properties
+     * @param computeNodeInstanceContext compute node instance context
+     * @param changedTableNames changed table names
+     * @return created database
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereDatabase create(final ShardingSphereDatabase originalDatabase, final DatabaseConfiguration databaseConfig, final ConfigurationProperties props,
+                                                final ComputeNodeInstanceContext computeNodeInstanceContext, final Collection<String> changedTableNames) throws SQLException {
+        String name = originalDatabase.getName();
+        DatabaseType protocolType = originalDatabase.getProtocolType();
+        ResourceMetaData resourceMetaData = new ResourceMetaData(databaseConfig.getDataSources(), databaseConfig.getStorageUnits());
+        Collection<ShardingSphereRule> databaseRules = DatabaseRulesBuilder.build(name, protocolType, databaseConfig, computeNodeInstanceContext, resourceMetaData);
+        Collection<ShardingSphereIdentifier> changedTables = changedTableNames.stream().map(ShardingSphereIdentifier::new).collect(Collectors.toSet());
+        Map<String, ShardingSphereSchema> systemSchemas = SystemSchemaBuilder.build(name, protocolType, props);
+        Collection<ShardingSphereIdentifier> systemSchemaNames = systemSchemas.keySet().stream().map(ShardingSphereIdentifier::new).collect(Collectors.toSet());
+        Map<ShardingSphereIdentifier, String> ruleTableNames = new LinkedHashMap<>();
+        for (ShardingSphereRule each : databaseRules) {
+            each.getAttributes().findAttribute(TableMapperRuleAttribute.class)
+                    .ifPresent(optional -> optional.getLogicTableNames().forEach(tableName -> ruleTableNames.putIfAbsent(new ShardingSphereIdentifier(tableName), tableName)));
+        }
+        Map<ShardingSphereIdentifier, ShardingSphereSchema> schemas = new LinkedHashMap<>();
+        Collection<ShardingSphereIdentifier> originalTableNames = new HashSet<>();
+        for (ShardingSphereSchema each : originalDatabase.getAllSchemas()) {
+            ShardingSphereIdentifier schemaName = new ShardingSphereIdentifier(each.getName());
+            if (systemSchemaNames.contains(schemaName)) {
+                continue;
+            }
+            Collection<ShardingSphereTable> reusedTables = new LinkedList<>();
+            for (ShardingSphereTable table : each.getAllTables()) {
+                ShardingSphereIdentifier tableName = new ShardingSphereIdentifier(table.getName());
+                originalTableNames.add(tableName);
+                if (!changedTables.contains(tableName) && ruleTableNames.containsKey(tableName)) {
+                    reusedTables.add(table);
+                }
+            }
+            schemas.put(schemaName, new ShardingSphereSchema(each.getName(), reusedTables, each.getAllViews()));
+        }
+        Collection<String> toBeLoadedTableNames = ruleTableNames.entrySet().stream()
+                .filter(entry -> changedTables.contains(entry.getKey()) || !originalTableNames.contains(entry.getKey())).map(Entry::getValue).collect(Collectors.toList());
+        if (!toBeLoadedTableNames.isEmpty()) {
+            Map<String, ShardingSphereSchema> loadedSchemas = GenericSchemaBuilder.build(toBeLoadedTableNames, protocolType,
+                    new GenericSchemaBuilderMaterial(resourceMetaData.getStorageUnits(), databaseRules, props, new DatabaseTypeRegistry(protocolType).getDefaultSchemaName(name)));
+            for (ShardingSphereSchema each : loadedSchemas.values()) {
+                ShardingSphereSchema schema = schemas.computeIfAbsent(new ShardingSphereIdentifier(each.getName()), key -> new ShardingSphereSchema(each.getName()));
+                each.getAllTables().forEach(schema::putTable);
+            }
+        }
+        systemSchemas.forEach((key, value) -> schemas.putIfAbsent(new ShardingSphereIdentifier(key), value));
+        return new ShardingSphereDatabase(name, protocolType, resourceMetaData, new RuleMetaData(databaseRules), schemas.values());
+    }
+    
     /**
      * Create database.
      *
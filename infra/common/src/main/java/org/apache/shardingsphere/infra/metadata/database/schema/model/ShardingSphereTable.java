@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.model;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
@@ -35,11 +37,15 @@ import java.util.stream.Collectors;
 
 /**
  * ShardingSphere table.
+ *
+ * <p>Equal columns are shared by tables, so that schemas with many tables of the same structure do not keep duplicated columns.</p>
  */
 @Getter
 @ToString
 public final class ShardingSphereTable {
     
+    private static final Interner<ShardingSphereColumn> COLUMN_INTERNER = Interners.newWeakInterner();
+    
     private final String name;
     
     @Getter(AccessLevel.NONE)
@@ -51,7 +57,9 @@ public final class ShardingSphereTable {
     
     private final List<String> visibleColumns = new ArrayList<>();
     
-    private final Map<String, Integer> visibleColumnAndIndexMap = new CaseInsensitiveMap<>();
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile Map<String, Integer> visibleColumnAndIndexMap;
     
     @Getter(AccessLevel.NONE)
     private final Map<ShardingSphereIdentifier, ShardingSphereIndex> indexes;
@@ -77,25 +85,40 @@ public final class ShardingSphereTable {
     
     private Map<ShardingSphereIdentifier, ShardingSphereColumn> createColumns(final Collection<ShardingSphereColumn> columns) {
         Map<ShardingSphereIdentifier, ShardingSphereColumn> result = new LinkedHashMap<>(columns.size(), 1F);
-        int index = 0;
         for (ShardingSphereColumn each : columns) {
             ShardingSphereIdentifier columnName = new ShardingSphereIdentifier(each.getName());
             if (result.containsKey(columnName)) {
                 continue;
             }
-            result.put(columnName, each);
+            result.put(columnName, COLUMN_INTERNER.intern(each));
             columnNames.add(columnName);
             if (each.isPrimaryKey()) {
                 primaryKeyColumns.add(each.getName());
             }
             if (each.isVisible()) {
                 visibleColumns.add(each.getName());
-                visibleColumnAndIndexMap.put(each.getName(), index++);
             }
         }
         return result;
     }
     
+    /**
+     * Get visible column and index map.
+     *
+     * @return visible column and index map
+     */
+    public Map<String, Integer> getVisibleColumnAndIndexMap() {
+        if (null == visibleColumnAndIndexMap) {
+            Map<String, Integer> result = new CaseInsensitiveMap<>(visibleColumns.size());
+            int index = 0;
+            for (String each : visibleColumns) {
+                result.put(each, index++);
+            }
+            visibleColumnAndIndexMap = result;
+        }
+        return visibleColumnAndIndexMap;
+    }
+    
     private Map<ShardingSphereIdentifier, ShardingSphereIndex> createIndexes(final Collection<ShardingSphereIndex> indexes) {
         return indexes.stream().collect(Collectors.toMap(each -> new ShardingSphereIdentifier(each.getName()), each -> each, (a, b) -> b, () -> new LinkedHashMap<>(indexes.size(), 1F)));
     }
@@ -50,6 +50,12 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(20));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_TRANSPORT), is("NIO"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_ACCEPTOR_SIZE), is(4));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK), is(2048));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_DIRECT_ARENA_SIZE), is(8));
+        assertFalse((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_TCP_QUICKACK));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
     }
     
@@ -68,6 +74,12 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_TRANSPORT.getKey(), "NIO"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_ACCEPTOR_SIZE.getKey(), "4"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK.getKey(), "1024"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), "2048"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_DIRECT_ARENA_SIZE.getKey(), "8"),
+                new Property(ConfigurationPropertyKey.PROXY_NETTY_TCP_QUICKACK.getKey(), Boolean.FALSE.toString()),
                 new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"));
     }
     
@@ -87,6 +99,12 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS), is(0));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_TRANSPORT), is("AUTO"));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_ACCEPTOR_SIZE), is(1));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK), is(32 * 1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK), is(64 * 1024));
+        assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_DIRECT_ARENA_SIZE), is(0));
+        assertTrue((Boolean) actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_TCP_QUICKACK));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
     }
 }
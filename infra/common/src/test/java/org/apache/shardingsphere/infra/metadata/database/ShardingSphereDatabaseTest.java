@@ -24,32 +24,43 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -166,4 +177,65 @@ class ShardingSphereDatabaseTest {
                 mock(DataSourceProvidedDatabaseConfiguration.class), new ConfigurationProperties(new Properties()), mock(ComputeNodeInstanceContext.class));
         assertNotNull(actual.getSchema("foo_db"));
     }
+    
+    @Test
+    void assertCreateWithChangedTables() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        ShardingSphereTable fooTable = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable barTable = new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema originalSchema = new ShardingSphereSchema("foo_db", Arrays.asList(fooTable, barTable), Collections.emptyList());
+        ShardingSphereDatabase originalDatabase = new ShardingSphereDatabase(
+                "foo_db", databaseType, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.singleton(originalSchema));
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("foo_tbl", "bar_tbl"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        ShardingSphereTable reloadedBarTable = new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema loadedSchema = new ShardingSphereSchema("foo_db", Collections.singleton(reloadedBarTable), Collections.emptyList());
+        try (
+                MockedStatic<DatabaseRulesBuilder> rulesBuilder = mockStatic(DatabaseRulesBuilder.class);
+                MockedStatic<GenericSchemaBuilder> schemaBuilder = mockStatic(GenericSchemaBuilder.class)) {
+            rulesBuilder.when(() -> DatabaseRulesBuilder.build(any(), any(), any(), any(), any())).thenReturn(Collections.singleton(rule));
+            schemaBuilder.when(() -> GenericSchemaBuilder.build(argThat(tableNames -> 1 == tableNames.size() && tableNames.contains("bar_tbl")), any(), any()))
+                    .thenReturn(Collections.singletonMap("foo_db", loadedSchema));
+            when(ShardingSphereDatabase.create(any(ShardingSphereDatabase.class), any(), any(), any(), any())).thenCallRealMethod();
+            ShardingSphereDatabase actual = ShardingSphereDatabase.create(originalDatabase, mock(DataSourceProvidedDatabaseConfiguration.class),
+                    new ConfigurationProperties(new Properties()), mock(ComputeNodeInstanceContext.class), Collections.singleton("bar_tbl"));
+            assertThat(actual.getSchema("foo_db").getTable("foo_tbl"), sameInstance(fooTable));
+            assertThat(actual.getSchema("foo_db").getTable("bar_tbl"), sameInstance(reloadedBarTable));
+            assertThat(actual.getSchema("foo_db"), not(sameInstance(originalSchema)));
+            assertThat(actual.getRuleMetaData().getRules().iterator().next(), is(rule));
+        }
+    }
+    
+    @Test
+    void assertCreateWithSameTableNameInMultipleSchemas() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+        ShardingSphereTable publicUserTable = new ShardingSphereTable("t_user", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable fooUserTable = new ShardingSphereTable("t_user", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema publicSchema = new ShardingSphereSchema("public", Collections.singleton(publicUserTable), Collections.emptyList());
+        ShardingSphereSchema fooSchema = new ShardingSphereSchema("foo_schema", Collections.singleton(fooUserTable), Collections.emptyList());
+        ShardingSphereDatabase originalDatabase = new ShardingSphereDatabase(
+                "foo_db", databaseType, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Arrays.asList(publicSchema, fooSchema));
+        TableMapperRuleAttribute ruleAttribute = mock(TableMapperRuleAttribute.class);
+        when(ruleAttribute.getLogicTableNames()).thenReturn(Arrays.asList("t_user", "t_order"));
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(ruleAttribute));
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema loadedSchema = new ShardingSphereSchema("public", Collections.singleton(orderTable), Collections.emptyList());
+        try (
+                MockedStatic<DatabaseRulesBuilder> rulesBuilder = mockStatic(DatabaseRulesBuilder.class);
+                MockedStatic<GenericSchemaBuilder> schemaBuilder = mockStatic(GenericSchemaBuilder.class)) {
+            rulesBuilder.when(() -> DatabaseRulesBuilder.build(any(), any(), any(), any(), any())).thenReturn(Collections.singleton(rule));
+            schemaBuilder.when(() -> GenericSchemaBuilder.build(argThat(tableNames -> 1 == tableNames.size() && tableNames.contains("t_order")), any(), any()))
+                    .thenReturn(Collections.singletonMap("public", loadedSchema));
+            when(ShardingSphereDatabase.create(any(ShardingSphereDatabase.class), any(), any(), any(), any())).thenCallRealMethod();
+            ShardingSphereDatabase actual = ShardingSphereDatabase.create(originalDatabase, mock(DataSourceProvidedDatabaseConfiguration.class),
+                    new ConfigurationProperties(new Properties()), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+            assertThat(actual.getSchema("public").getTable("t_user"), sameInstance(publicUserTable));
+            assertThat(actual.getSchema("public").getTable("t_order"), sameInstance(orderTable));
+            assertThat(actual.getSchema("foo_schema").getTable("t_user"), sameInstance(fooUserTable));
+            assertNull(actual.getSchema("foo_schema").getTable("t_order"));
+        }
+    }
 }
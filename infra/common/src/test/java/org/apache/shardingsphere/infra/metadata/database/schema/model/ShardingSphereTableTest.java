@@ -27,6 +27,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -132,4 +133,24 @@ class ShardingSphereTableTest {
         assertThat(table.getAllConstraints(), hasItems(constraint));
         assertThat(table.getAllConstraints().size(), is(1));
     }
+    
+    @Test
+    void assertShareEqualColumns() {
+        ShardingSphereTable table1 = new ShardingSphereTable("foo_tbl_1", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, true, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable table2 = new ShardingSphereTable("foo_tbl_2", Collections.singletonList(new ShardingSphereColumn("id", Types.INTEGER, true, true, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        assertThat(table1.getColumn("id"), sameInstance(table2.getColumn("id")));
+    }
+    
+    @Test
+    void assertGetVisibleColumnAndIndexMap() {
+        ShardingSphereColumn column1 = new ShardingSphereColumn("foo_col_1", Types.INTEGER, true, true, false, true, false, false);
+        ShardingSphereColumn column2 = new ShardingSphereColumn("foo_col_2", Types.INTEGER, false, false, false, false, false, false);
+        ShardingSphereColumn column3 = new ShardingSphereColumn("foo_col_3", Types.VARCHAR, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(column1, column2, column3), Collections.emptyList(), Collections.emptyList());
+        assertThat(table.getVisibleColumnAndIndexMap().size(), is(2));
+        assertThat(table.getVisibleColumnAndIndexMap().get("FOO_COL_1"), is(0));
+        assertThat(table.getVisibleColumnAndIndexMap().get("foo_col_3"), is(1));
+    }
 }
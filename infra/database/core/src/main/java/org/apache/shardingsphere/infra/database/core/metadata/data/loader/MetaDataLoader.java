@@ -28,18 +28,24 @@ import org.apache.shardingsphere.infra.database.core.metadata.database.datatype.
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Meta data loader.
@@ -59,15 +65,46 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
-        for (MetaDataLoaderMaterial each : materials) {
-            DataTypeRegistry.load(each.getDataSource(), each.getStorageType().getType());
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+        return load(materials, 0);
+    }
+    
+    /**
+     * Load meta data.
+     *
+     * <p>Materials of the same storage unit are loaded by at most max connections size tasks, tasks of different storage units are submitted in turn.</p>
+     *
+     * @param materials meta data loader materials
+     * @param maxConnectionsSizePerStorageUnit max connections size per storage unit, unlimited if not positive
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials, final int maxConnectionsSizePerStorageUnit) throws SQLException {
+        List<MetaDataLoaderMaterial> materialList = new ArrayList<>(materials);
+        Map<String, Queue<Integer>> storageUnitMaterialIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < materialList.size(); i++) {
+            MetaDataLoaderMaterial material = materialList.get(i);
+            DataTypeRegistry.load(material.getDataSource(), material.getStorageType().getType());
+            storageUnitMaterialIndexes.computeIfAbsent(material.getStorageUnitName(), key -> new ConcurrentLinkedQueue<>()).add(i);
+        }
+        Map<Queue<Integer>, Integer> storageUnitLaneCounts = new LinkedHashMap<>(storageUnitMaterialIndexes.size(), 1F);
+        int maxLaneCount = 0;
+        for (Queue<Integer> each : storageUnitMaterialIndexes.values()) {
+            int laneCount = maxConnectionsSizePerStorageUnit <= 0 ? each.size() : Math.min(each.size(), maxConnectionsSizePerStorageUnit);
+            storageUnitLaneCounts.put(each, laneCount);
+            maxLaneCount = Math.max(maxLaneCount, laneCount);
+        }
+        AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData = new AtomicReferenceArray<>(materialList.size());
+        Collection<Future<Void>> futures = new LinkedList<>();
+        for (int round = 0; round < maxLaneCount; round++) {
+            for (Entry<Queue<Integer>, Integer> entry : storageUnitLaneCounts.entrySet()) {
+                if (round < entry.getValue()) {
+                    futures.add(EXECUTOR_SERVICE.submit(() -> load(materialList, entry.getKey(), loadedSchemaMetaData)));
+                }
+            }
         }
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Future<Void> each : futures) {
+                each.get();
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -77,9 +114,25 @@ public final class MetaDataLoader {
             }
             throw new SQLException(ex);
         }
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (int i = 0; i < materialList.size(); i++) {
+            if (null != loadedSchemaMetaData.get(i)) {
+                merge(result, loadedSchemaMetaData.get(i));
+            }
+        }
         return result;
     }
     
+    private static Void load(final List<MetaDataLoaderMaterial> materials, final Queue<Integer> materialIndexes,
+                             final AtomicReferenceArray<Collection<SchemaMetaData>> loadedSchemaMetaData) throws SQLException {
+        Integer index = materialIndexes.poll();
+        while (null != index) {
+            loadedSchemaMetaData.set(index, load(materials.get(index)));
+            index = materialIndexes.poll();
+        }
+        return null;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
@@ -93,10 +146,7 @@ public final class MetaDataLoader {
     }
     
     private static Collection<SchemaMetaData> loadByDefault(final MetaDataLoaderMaterial material) throws SQLException {
-        Collection<TableMetaData> tableMetaData = new LinkedList<>();
-        for (String each : material.getActualTableNames()) {
-            TableMetaDataLoader.load(material.getDataSource(), each, material.getStorageType()).ifPresent(tableMetaData::add);
-        }
+        Collection<TableMetaData> tableMetaData = TableMetaDataLoader.load(material.getDataSource(), material.getActualTableNames(), material.getStorageType());
         return Collections.singleton(new SchemaMetaData(material.getDefaultSchemaName(), tableMetaData));
     }
     
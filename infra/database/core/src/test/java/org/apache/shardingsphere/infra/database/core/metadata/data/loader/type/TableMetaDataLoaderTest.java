@@ -39,6 +39,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -140,4 +141,23 @@ class TableMetaDataLoaderTest {
         assertTrue(actual.containsKey("sharding_db"));
         assertTrue(actual.get("sharding_db").getTables().isEmpty());
     }
+    
+    @Test
+    void assertLoadWithMaxConnectionsSizePerStorageUnit() throws SQLException {
+        Collection<MetaDataLoaderMaterial> materials = Arrays.asList(new MetaDataLoaderMaterial(Collections.singleton(NOT_EXISTED_TABLE), "foo_ds", dataSource, databaseType, "sharding_db"),
+                new MetaDataLoaderMaterial(Arrays.asList(TEST_TABLE, NOT_EXISTED_TABLE), "foo_ds", dataSource, databaseType, "sharding_db"));
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(materials, 1);
+        assertThat(actual.get("sharding_db").getTables().size(), is(1));
+        assertThat(actual.get("sharding_db").getTables().iterator().next().getName(), is(TEST_TABLE));
+    }
+    
+    @Test
+    void assertLoadWithMoreMaterialsThanMaxConnectionsSizePerStorageUnit() throws SQLException {
+        Collection<MetaDataLoaderMaterial> materials = Arrays.asList(new MetaDataLoaderMaterial(Collections.singleton(NOT_EXISTED_TABLE), "foo_ds", dataSource, databaseType, "sharding_db"),
+                new MetaDataLoaderMaterial(Collections.singleton(NOT_EXISTED_TABLE), "foo_ds", dataSource, databaseType, "sharding_db"),
+                new MetaDataLoaderMaterial(Collections.singleton(TEST_TABLE), "foo_ds", dataSource, databaseType, "sharding_db"));
+        Map<String, SchemaMetaData> actual = MetaDataLoader.load(materials, 2);
+        assertThat(actual.get("sharding_db").getTables().size(), is(1));
+        assertThat(actual.get("sharding_db").getTables().iterator().next().getName(), is(TEST_TABLE));
+    }
 }
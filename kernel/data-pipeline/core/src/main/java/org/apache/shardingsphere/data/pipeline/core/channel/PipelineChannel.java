@@ -64,4 +64,10 @@ public interface PipelineChannel {
      * @param records data records
      */
     void ack(List<Record> records);
+    
+    /**
+     * Close channel and release the resources held by it.
+     */
+    default void close() {
+    }
 }
@@ -0,0 +1,484 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.disk;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Disk pipeline channel.
+ * <p>Batches are kept in memory until the memory queue is full, later batches are spilled to append-only segment files instead of blocking the pushers.
+ * Segment files are deleted once all of their batches are acked, the remaining segment files and the spill directory are deleted when the channel is closed.</p>
+ */
+@Slf4j
+public final class DiskPipelineChannel implements PipelineChannel {
+    
+    private static final byte DATA_RECORD = 1;
+    
+    private static final byte PLACEHOLDER_RECORD = 2;
+    
+    private static final byte FINISHED_RECORD = 3;
+    
+    private final int memoryQueueSize;
+    
+    private final Path directory;
+    
+    private final long segmentSize;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final Deque<Batch> batches = new LinkedList<>();
+    
+    private final Deque<Batch> fetchedBatches = new LinkedList<>();
+    
+    private final Collection<Segment> segments = new LinkedList<>();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private volatile int memoryBatchCount;
+    
+    private Segment writingSegment;
+    
+    private int segmentSequence;
+    
+    private volatile boolean closed;
+    
+    public DiskPipelineChannel(final int memoryQueueSize, final Path directory, final long segmentSize, final PipelineChannelAckCallback ackCallback) {
+        this.memoryQueueSize = Math.max(memoryQueueSize, 1);
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        Optional<byte[]> data = memoryBatchCount >= memoryQueueSize ? serialize(records) : Optional.empty();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (memoryBatchCount >= memoryQueueSize && !data.isPresent()) {
+                data = serialize(records);
+            }
+            if (memoryBatchCount < memoryQueueSize || !data.isPresent()) {
+                while (memoryBatchCount >= memoryQueueSize && !closed) {
+                    notFull.await();
+                }
+                if (closed) {
+                    return;
+                }
+                batches.add(new Batch(records));
+                memoryBatchCount++;
+            } else {
+                batches.add(spill(records, data.get()));
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Optional<byte[]> serialize(final List<Record> records) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(result)) {
+            outputStream.writeInt(records.size());
+            for (Record each : records) {
+                if (!writeRecord(outputStream, each)) {
+                    return Optional.empty();
+                }
+            }
+        } catch (final IOException ex) {
+            log.debug("Records could not be spilled, keep them in memory.", ex);
+            return Optional.empty();
+        }
+        return Optional.of(result.toByteArray());
+    }
+    
+    private boolean writeRecord(final ObjectOutputStream outputStream, final Record record) throws IOException {
+        if (record instanceof PlaceholderRecord) {
+            outputStream.writeByte(PLACEHOLDER_RECORD);
+        } else if (record instanceof FinishedRecord) {
+            outputStream.writeByte(FINISHED_RECORD);
+        } else if (record instanceof DataRecord) {
+            outputStream.writeByte(DATA_RECORD);
+            writeDataRecord(outputStream, (DataRecord) record);
+        } else {
+            return false;
+        }
+        outputStream.writeLong(record.getCommitTime());
+        return true;
+    }
+    
+    private void writeDataRecord(final ObjectOutputStream outputStream, final DataRecord dataRecord) throws IOException {
+        outputStream.writeObject(dataRecord.getType());
+        outputStream.writeObject(dataRecord.getSchemaName());
+        outputStream.writeObject(dataRecord.getTableName());
+        outputStream.writeObject(dataRecord.getActualTableName());
+        outputStream.writeObject(dataRecord.getCsn());
+        outputStream.writeInt(dataRecord.getColumnCount());
+        for (Column each : dataRecord.getColumns()) {
+            outputStream.writeObject(each.getName());
+            outputStream.writeObject(each.getOldValue());
+            outputStream.writeObject(each.getValue());
+            outputStream.writeBoolean(each.isUpdated());
+            outputStream.writeBoolean(each.isUniqueKey());
+        }
+    }
+    
+    private Batch spill(final List<Record> records, final byte[] data) {
+        try {
+            if (null == writingSegment || writingSegment.size >= segmentSize) {
+                rotateSegment();
+            }
+            long offset = writingSegment.size;
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                writingSegment.fileChannel.write(buffer, offset + buffer.position());
+            }
+            writingSegment.size += data.length;
+            writingSegment.unackedBatchCount++;
+            List<IngestPosition> positions = new ArrayList<>(records.size());
+            for (Record each : records) {
+                positions.add(each.getPosition());
+            }
+            return new Batch(positions, writingSegment, offset, data.length);
+        } catch (final IOException ex) {
+            throw new PipelineInternalException("Spill records to disk failed.", ex);
+        }
+    }
+    
+    private void rotateSegment() throws IOException {
+        if (null != writingSegment) {
+            writingSegment.sealed = true;
+            releaseIfDrained(writingSegment);
+        }
+        Path file = directory.resolve(String.format("segment-%010d", segmentSequence++));
+        writingSegment = new Segment(file, FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segments.add(writingSegment);
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long startMillis = System.currentTimeMillis();
+        int recordsCount = 0;
+        do {
+            Batch batch = pollBatch(Math.max(0L, timeoutMillis - (System.currentTimeMillis() - startMillis)));
+            if (null == batch) {
+                if (closed) {
+                    break;
+                }
+                continue;
+            }
+            List<Record> records = load(batch);
+            recordsCount += records.size();
+            result.addAll(records);
+        } while (recordsCount < batchSize && System.currentTimeMillis() - startMillis < timeoutMillis);
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private Batch pollBatch(final long timeoutMillis) {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (batches.isEmpty() && nanos > 0L && !closed) {
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removeFirstBatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Batch removeFirstBatch() {
+        Batch result = batches.poll();
+        if (null != result && null == result.segment) {
+            memoryBatchCount--;
+            notFull.signalAll();
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        lock.lock();
+        try {
+            Batch batch = batches.peek();
+            if (null == batch) {
+                return Collections.emptyList();
+            }
+            if (null == batch.records) {
+                batch.records = read(batch);
+            }
+            return batch.records;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> poll() {
+        Batch batch;
+        lock.lock();
+        try {
+            batch = removeFirstBatch();
+        } finally {
+            lock.unlock();
+        }
+        return null == batch ? Collections.emptyList() : load(batch);
+    }
+    
+    private List<Record> load(final Batch batch) {
+        lock.lock();
+        try {
+            if (closed) {
+                return Collections.emptyList();
+            }
+            List<Record> result = null == batch.records ? read(batch) : batch.records;
+            if (null != batch.segment) {
+                batch.records = null;
+            }
+            if (result.isEmpty()) {
+                releaseAcked(batch);
+            } else {
+                batch.lastRecord = result.get(result.size() - 1);
+                fetchedBatches.add(batch);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private List<Record> read(final Batch batch) {
+        ByteBuffer buffer = ByteBuffer.allocate(batch.length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (batch.segment.fileChannel.read(buffer, batch.offset + buffer.position()) < 0) {
+                    throw new PipelineInternalException("Unexpected end of spilled segment `%s`.", batch.segment.file);
+                }
+            }
+            return deserialize(buffer.array(), batch.positions);
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new PipelineInternalException("Read spilled records from disk failed.", ex);
+        }
+    }
+    
+    private List<Record> deserialize(final byte[] data, final List<IngestPosition> positions) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            int recordCount = inputStream.readInt();
+            List<Record> result = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                result.add(readRecord(inputStream, positions.get(i)));
+            }
+            return result;
+        }
+    }
+    
+    private Record readRecord(final ObjectInputStream inputStream, final IngestPosition position) throws IOException, ClassNotFoundException {
+        byte recordType = inputStream.readByte();
+        Record result;
+        if (PLACEHOLDER_RECORD == recordType) {
+            result = new PlaceholderRecord(position);
+        } else if (FINISHED_RECORD == recordType) {
+            result = new FinishedRecord(position);
+        } else {
+            result = readDataRecord(inputStream, position);
+        }
+        result.setCommitTime(inputStream.readLong());
+        return result;
+    }
+    
+    private DataRecord readDataRecord(final ObjectInputStream inputStream, final IngestPosition position) throws IOException, ClassNotFoundException {
+        PipelineSQLOperationType type = (PipelineSQLOperationType) inputStream.readObject();
+        String schemaName = (String) inputStream.readObject();
+        String tableName = (String) inputStream.readObject();
+        String actualTableName = (String) inputStream.readObject();
+        Long csn = (Long) inputStream.readObject();
+        int columnCount = inputStream.readInt();
+        DataRecord result = new DataRecord(type, schemaName, tableName, position, columnCount);
+        result.setActualTableName(actualTableName);
+        result.setCsn(csn);
+        for (int i = 0; i < columnCount; i++) {
+            String name = (String) inputStream.readObject();
+            Object oldValue = inputStream.readObject();
+            Object value = inputStream.readObject();
+            result.addColumn(new NormalColumn(name, oldValue, value, inputStream.readBoolean(), inputStream.readBoolean()));
+        }
+        return result;
+    }
+    
+    private void releaseIfDrained(final Segment segment) {
+        if (!segment.sealed || segment.unackedBatchCount > 0) {
+            return;
+        }
+        segments.remove(segment);
+        delete(segment);
+    }
+    
+    private void delete(final Segment segment) {
+        try {
+            segment.fileChannel.close();
+            Files.deleteIfExists(segment.file);
+        } catch (final IOException ex) {
+            log.warn("Delete spilled segment `{}` failed.", segment.file, ex);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        if (!records.isEmpty()) {
+            releaseAckedBatches(records.get(records.size() - 1));
+        }
+        ackCallback.onAck(records);
+    }
+    
+    private void releaseAckedBatches(final Record lastAckedRecord) {
+        lock.lock();
+        try {
+            if (fetchedBatches.stream().noneMatch(each -> each.lastRecord == lastAckedRecord)) {
+                return;
+            }
+            Batch batch;
+            do {
+                batch = fetchedBatches.poll();
+                releaseAcked(batch);
+            } while (batch.lastRecord != lastAckedRecord);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void releaseAcked(final Batch batch) {
+        if (null != batch.segment) {
+            batch.segment.unackedBatchCount--;
+            releaseIfDrained(batch.segment);
+        }
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batches.clear();
+            fetchedBatches.clear();
+            memoryBatchCount = 0;
+            segments.forEach(this::delete);
+            segments.clear();
+            writingSegment = null;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.deleteIfExists(directory);
+        } catch (final IOException ex) {
+            log.warn("Delete spill directory `{}` failed.", directory, ex);
+        }
+    }
+    
+    private static final class Batch {
+        
+        private final List<IngestPosition> positions;
+        
+        private final Segment segment;
+        
+        private final long offset;
+        
+        private final int length;
+        
+        private List<Record> records;
+        
+        private Record lastRecord;
+        
+        Batch(final List<Record> records) {
+            this(null, null, 0L, 0);
+            this.records = records;
+        }
+        
+        Batch(final List<IngestPosition> positions, final Segment segment, final long offset, final int length) {
+            this.positions = positions;
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+    
+    private static final class Segment {
+        
+        private final Path file;
+        
+        private final FileChannel fileChannel;
+        
+        private long size;
+        
+        private int unackedBatchCount;
+        
+        private boolean sealed;
+        
+        Segment(final Path file, final FileChannel fileChannel) {
+            this.file = file;
+            this.fileChannel = fileChannel;
+        }
+    }
+}
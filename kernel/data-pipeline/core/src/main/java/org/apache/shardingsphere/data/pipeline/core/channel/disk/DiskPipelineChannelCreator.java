@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.disk;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Pipeline channel creator of disk.
+ */
+public final class DiskPipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String BLOCK_QUEUE_SIZE_KEY = "block-queue-size";
+    
+    private static final String BLOCK_QUEUE_SIZE_DEFAULT_VALUE = "2000";
+    
+    private static final String SPILL_DIRECTORY_KEY = "spill-directory";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String SEGMENT_SIZE_DEFAULT_VALUE = String.valueOf(64 * 1024 * 1024);
+    
+    private int queueSize;
+    
+    private String spillDirectory;
+    
+    private long segmentSize;
+    
+    @Override
+    public void init(final Properties props) {
+        queueSize = Integer.parseInt(props.getProperty(BLOCK_QUEUE_SIZE_KEY, BLOCK_QUEUE_SIZE_DEFAULT_VALUE));
+        spillDirectory = props.getProperty(SPILL_DIRECTORY_KEY, System.getProperty("java.io.tmpdir"));
+        segmentSize = Long.parseLong(props.getProperty(SEGMENT_SIZE_KEY, SEGMENT_SIZE_DEFAULT_VALUE));
+    }
+    
+    @Override
+    public PipelineChannel newInstance(final int importerBatchSize, final PipelineChannelAckCallback ackCallback) {
+        return new DiskPipelineChannel(queueSize / importerBatchSize, createChannelDirectory(), segmentSize, ackCallback);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private Path createChannelDirectory() {
+        return Files.createTempDirectory(Files.createDirectories(Paths.get(spillDirectory)), "pipeline-channel-");
+    }
+    
+    @Override
+    public String getType() {
+        return "DISK";
+    }
+}
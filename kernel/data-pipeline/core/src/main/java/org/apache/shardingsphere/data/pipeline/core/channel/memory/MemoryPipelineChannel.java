@@ -22,8 +22,8 @@ import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCa
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -53,7 +53,7 @@ public final class MemoryPipelineChannel implements PipelineChannel {
     @SneakyThrows(InterruptedException.class)
     @Override
     public List<Record> fetch(final int batchSize, final long timeoutMillis) {
-        List<Record> result = new LinkedList<>();
+        List<Record> result = new ArrayList<>(batchSize);
         long startMillis = System.currentTimeMillis();
         int recordsCount = 0;
         do {
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+
+/**
+ * CRC32 range match table data consistency checker.
+ */
+@SPIDescription("Match CRC32 digests of unique key ranges and bisect unmatched ranges.")
+public final class CRC32RangeMatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1000000;
+    
+    private static final String LEAF_SIZE_KEY = "leaf-size";
+    
+    private static final int DEFAULT_LEAF_SIZE = 1000;
+    
+    private int chunkSize;
+    
+    private int leafSize;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntValue(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        leafSize = getPositiveIntValue(props, LEAF_SIZE_KEY, DEFAULT_LEAF_SIZE);
+    }
+    
+    private int getPositiveIntValue(final Properties props, final String key, final int defaultValue) {
+        String text = props.getProperty(key);
+        if (Strings.isNullOrEmpty(text)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(text);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, text));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
+    @Override
+    public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        return new CRC32RangeMatchTableInventoryChecker(param, chunkSize, leafSize);
+    }
+    
+    @Override
+    public Collection<DatabaseType> getSupportedDatabaseTypes() {
+        Collection<DatabaseType> result = new LinkedList<>();
+        DatabaseType supportedDatabaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        result.add(supportedDatabaseType);
+        result.addAll(new DatabaseTypeRegistry(supportedDatabaseType).getAllBranchDatabaseTypes());
+        return result;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getType() {
+        return "CRC32_RANGE_MATCH";
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CRC32 range match table inventory checker.
+ *
+ * <p>Digests of unique key ranges are aggregated by source and target databases, only unmatched range is bisected until the leaf size is reached.
+ * Range bounds are derived from source rows ordered by unique key, so sparse unique key values do not produce empty ranges.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class CRC32RangeMatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int chunkSize;
+    
+    private final int leafSize;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final AtomicReference<Statement> currentStatement = new AtomicReference<>();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        Optional<String> uniqueKey = findIntegerUniqueKey();
+        if (!uniqueKey.isPresent()) {
+            return new TableDataConsistencyCheckResult(checkWholeTable());
+        }
+        Long lowerBound = getUniqueKeyBound(uniqueKey.get(), true);
+        Long upperBound = getUniqueKeyBound(uniqueKey.get(), false);
+        if (null == lowerBound || null == upperBound) {
+            return new TableDataConsistencyCheckResult(true);
+        }
+        Long previousEnd = getCheckedPosition(lowerBound);
+        while ((null == previousEnd || previousEnd < upperBound) && !canceling.get()) {
+            long begin = null == previousEnd ? lowerBound : previousEnd + 1L;
+            Long pageEnd = queryPageEnd(uniqueKey.get(), previousEnd, chunkSize);
+            long end = null == pageEnd || pageEnd >= upperBound ? upperBound : pageEnd;
+            if (null != param.getReadRateLimitAlgorithm()) {
+                param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+            }
+            RangeDigest sourceDigest = calculate(param.getSourceDataSource(), param.getSourceTable(), uniqueKey.get(), begin, end);
+            if (!sourceDigest.equals(calculate(param.getTargetDataSource(), param.getTargetTable(), uniqueKey.get(), begin, end))) {
+                locateUnmatchedRange(uniqueKey.get(), begin, end, sourceDigest.getRecordsCount());
+                return new TableDataConsistencyCheckResult(false);
+            }
+            param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName(), end);
+            param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName(), end);
+            param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress((int) sourceDigest.getRecordsCount()));
+            previousEnd = end;
+        }
+        return new TableDataConsistencyCheckResult(!canceling.get());
+    }
+    
+    private Optional<String> findIntegerUniqueKey() {
+        if (1 != param.getUniqueKeys().size()) {
+            return Optional.empty();
+        }
+        PipelineColumnMetaData uniqueKey = param.getUniqueKeys().get(0);
+        return PipelineJdbcUtils.isIntegerColumn(uniqueKey.getDataType()) ? Optional.of(uniqueKey.getName()) : Optional.empty();
+    }
+    
+    private boolean checkWholeTable() {
+        RangeDigest sourceDigest = calculate(param.getSourceDataSource(), param.getSourceTable(), null, 0L, 0L);
+        boolean result = sourceDigest.equals(calculate(param.getTargetDataSource(), param.getTargetTable(), null, 0L, 0L));
+        if (result) {
+            param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress((int) sourceDigest.getRecordsCount()));
+        } else {
+            log.info("content matched false, jobId={}, sourceTable={}, targetTable={}", param.getJobId(), param.getSourceTable(), param.getTargetTable());
+        }
+        return result;
+    }
+    
+    private Long getUniqueKeyBound(final String uniqueKey, final boolean lower) {
+        Long sourceBound = queryUniqueKeyBound(param.getSourceDataSource(), param.getSourceTable(), uniqueKey, lower);
+        Long targetBound = queryUniqueKeyBound(param.getTargetDataSource(), param.getTargetTable(), uniqueKey, lower);
+        if (null == sourceBound || null == targetBound) {
+            return null == sourceBound ? targetBound : sourceBound;
+        }
+        return lower ? Math.min(sourceBound, targetBound) : Math.max(sourceBound, targetBound);
+    }
+    
+    private Long queryUniqueKeyBound(final PipelineDataSource dataSource, final QualifiedTable table, final String uniqueKey, final boolean lower) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), uniqueKey);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            currentStatement.set(preparedStatement);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long result = resultSet.getLong(lower ? 1 : 2);
+                return resultSet.wasNull() ? null : result;
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        } finally {
+            currentStatement.set(null);
+        }
+    }
+    
+    private Long getCheckedPosition(final long lowerBound) {
+        Object checkedPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName());
+        if (null == checkedPosition) {
+            return null;
+        }
+        long result;
+        try {
+            result = checkedPosition instanceof Number ? ((Number) checkedPosition).longValue() : Long.parseLong(checkedPosition.toString());
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+        return result < lowerBound ? null : result;
+    }
+    
+    private Long queryPageEnd(final String uniqueKey, final Long previousEnd, final int pageSize) {
+        PipelineDataSource dataSource = param.getSourceDataSource();
+        QualifiedTable table = param.getSourceTable();
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyPageBoundsSQL(table.getSchemaName(), table.getTableName(), uniqueKey, null == previousEnd);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            currentStatement.set(preparedStatement);
+            int parameterIndex = 1;
+            if (null != previousEnd) {
+                preparedStatement.setLong(parameterIndex++, previousEnd);
+            }
+            preparedStatement.setInt(parameterIndex, pageSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long result = resultSet.getLong(2);
+                return resultSet.wasNull() ? null : result;
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        } finally {
+            currentStatement.set(null);
+        }
+    }
+    
+    private void locateUnmatchedRange(final String uniqueKey, final long begin, final long end, final long sourceRecordsCount) {
+        long lower = begin;
+        long upper = end;
+        long recordsCount = sourceRecordsCount;
+        while (recordsCount > leafSize && !canceling.get()) {
+            int halfRecordsCount = (int) (recordsCount / 2L);
+            Long middle = queryPageEnd(uniqueKey, Long.MIN_VALUE == lower ? null : lower - 1L, halfRecordsCount);
+            if (null == middle || middle >= upper) {
+                break;
+            }
+            RangeDigest sourceDigest = calculate(param.getSourceDataSource(), param.getSourceTable(), uniqueKey, lower, middle);
+            if (sourceDigest.equals(calculate(param.getTargetDataSource(), param.getTargetTable(), uniqueKey, lower, middle))) {
+                lower = middle + 1L;
+                recordsCount -= sourceDigest.getRecordsCount();
+            } else {
+                upper = middle;
+                recordsCount = sourceDigest.getRecordsCount();
+            }
+        }
+        log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, unmatched range=[{}, {}]",
+                param.getJobId(), param.getSourceTable(), param.getTargetTable(), uniqueKey, lower, upper);
+    }
+    
+    private RangeDigest calculate(final PipelineDataSource dataSource, final QualifiedTable table, final String uniqueKey, final long begin, final long end) {
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(dataSource.getDatabaseType()).buildRangeDigestSQL(table, param.getColumnNames(), uniqueKey)
+                .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32_RANGE_MATCH", dataSource.getDatabaseType()));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            currentStatement.set(preparedStatement);
+            if (null != uniqueKey) {
+                preparedStatement.setLong(1, begin);
+                preparedStatement.setLong(2, end);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                BigDecimal checksum = resultSet.getBigDecimal(2);
+                return new RangeDigest(resultSet.getLong(1), null == checksum ? BigInteger.ZERO : checksum.toBigInteger());
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        } finally {
+            currentStatement.set(null);
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        Optional.ofNullable(currentStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    private static final class RangeDigest {
+        
+        private final long recordsCount;
+        
+        private final BigInteger checksum;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partitioned channel consumer importer.
+ * <p>Data records of each fetched batch are hash partitioned by table and unique key, every partition is written by its own sink concurrently.
+ * Records of the same key always go to the same partition, and the batch is acked after all partitions are written.</p>
+ */
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final List<PipelineSink> sinks;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final ExecutorService executorService;
+    
+    public PartitionedChannelConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis,
+                                              final List<PipelineSink> sinks, final PipelineJobProgressListener jobProgressListener) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sinks = sinks;
+        this.jobProgressListener = jobProgressListener;
+        executorService = Executors.newFixedThreadPool(sinks.size(), ExecutorThreadFactoryBuilder.build("pipeline-partitioned-importer-%d"));
+    }
+    
+    @Override
+    protected void runBlocking() {
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                PipelineJobUpdateProgress updateProgress = write(records);
+                channel.ack(records);
+                jobProgressListener.onProgressUpdated(updateProgress);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    break;
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private PipelineJobUpdateProgress write(final List<Record> records) {
+        Optional<List<List<Record>>> partitions = partition(records);
+        if (!partitions.isPresent()) {
+            return sinks.get(0).write("", records);
+        }
+        Collection<Future<PipelineJobUpdateProgress>> futures = new LinkedList<>();
+        for (int i = 0; i < sinks.size(); i++) {
+            List<Record> partition = partitions.get().get(i);
+            if (!partition.isEmpty()) {
+                PipelineSink sink = sinks.get(i);
+                futures.add(executorService.submit(() -> sink.write("", partition)));
+            }
+        }
+        int processedRecordsCount = 0;
+        for (Future<PipelineJobUpdateProgress> each : futures) {
+            processedRecordsCount += waitFuture(each).getProcessedRecordsCount();
+        }
+        return new PipelineJobUpdateProgress(processedRecordsCount);
+    }
+    
+    private Optional<List<List<Record>>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); i++) {
+            result.add(new LinkedList<>());
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (dataRecord.getUniqueKeyValue().isEmpty() || isUniqueKeyChanged(dataRecord)) {
+                return Optional.empty();
+            }
+            Object[] uniqueKeyValues = (PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue()).toArray();
+            int hashCode = 31 * dataRecord.getTableName().hashCode() + Arrays.deepHashCode(uniqueKeyValues);
+            result.get(Math.floorMod(hashCode, sinks.size())).add(dataRecord);
+        }
+        return Optional.of(result);
+    }
+    
+    private boolean isUniqueKeyChanged(final DataRecord dataRecord) {
+        return PipelineSQLOperationType.UPDATE == dataRecord.getType() && !Arrays.deepEquals(dataRecord.getUniqueKeyValue().toArray(), dataRecord.getOldUniqueKeyValues().toArray());
+    }
+    
+    private PipelineJobUpdateProgress waitFuture(final Future<PipelineJobUpdateProgress> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInternalException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    @Override
+    protected void doStop() {
+        sinks.forEach(QuietlyCloser::close);
+        executorService.shutdownNow();
+    }
+}
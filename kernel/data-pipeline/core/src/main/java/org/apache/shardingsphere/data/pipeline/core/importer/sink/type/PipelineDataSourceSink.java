@@ -40,7 +40,10 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -49,11 +52,15 @@ import java.util.stream.Collectors;
 
 /**
  * Pipeline data source sink.
+ * <p>When single transaction is enabled, records of several tables or operation types in one write are applied in one target transaction.
+ * It only saves commits, a write could still end in the middle of a source transaction, e.g. MySQL binlog rows events are pushed one by one.</p>
  */
 @HighFrequencyInvocation
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MULTI_ROWS_INSERT_MAX_PARAMETER_COUNT = 32767;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -64,12 +71,19 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final AtomicReference<PreparedStatement> runningStatement;
     
+    private final boolean singleTransactionEnabled;
+    
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, true);
+    }
+    
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final boolean singleTransactionEnabled) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
         runningStatement = new AtomicReference<>();
+        this.singleTransactionEnabled = singleTransactionEnabled;
     }
     
     @Override
@@ -78,14 +92,100 @@ public final class PipelineDataSourceSink implements PipelineSink {
         if (dataRecords.isEmpty()) {
             return new PipelineJobUpdateProgress(0);
         }
-        for (GroupedDataRecord each : groupEngine.group(dataRecords)) {
-            batchWrite(each.getDeleteDataRecords());
-            batchWrite(each.getInsertDataRecords());
-            batchWrite(each.getUpdateDataRecords());
+        List<Collection<DataRecord>> batches = splitBatches(dataRecords);
+        if (singleTransactionEnabled && batches.size() > 1 && writeInOneTransaction(batches)) {
+            return new PipelineJobUpdateProgress((int) dataRecords.stream().filter(each -> PipelineSQLOperationType.INSERT == each.getType()).count());
+        }
+        for (Collection<DataRecord> each : batches) {
+            batchWrite(each);
         }
         return new PipelineJobUpdateProgress((int) dataRecords.stream().filter(each -> PipelineSQLOperationType.INSERT == each.getType()).count());
     }
     
+    private List<Collection<DataRecord>> splitBatches(final List<DataRecord> dataRecords) {
+        List<Collection<DataRecord>> result = new LinkedList<>();
+        if (dataRecords.stream().anyMatch(each -> each.getUniqueKeyValue().isEmpty() || isUniqueKeyChanged(each))) {
+            // Records could not be merged by unique key, only consecutive records of the same table and type are batched to keep the original order.
+            List<DataRecord> batch = new LinkedList<>();
+            for (DataRecord each : dataRecords) {
+                if (!batch.isEmpty() && !isSameBatch(batch.get(0), each)) {
+                    result.add(batch);
+                    batch = new LinkedList<>();
+                }
+                batch.add(each);
+            }
+            result.add(batch);
+            return result;
+        }
+        for (GroupedDataRecord each : groupEngine.group(dataRecords)) {
+            addBatchIfNotEmpty(result, each.getDeleteDataRecords());
+            addBatchIfNotEmpty(result, each.getInsertDataRecords());
+            addBatchIfNotEmpty(result, each.getUpdateDataRecords());
+        }
+        return result;
+    }
+    
+    private boolean isUniqueKeyChanged(final DataRecord dataRecord) {
+        return PipelineSQLOperationType.UPDATE == dataRecord.getType() && !Arrays.deepEquals(dataRecord.getUniqueKeyValue().toArray(), dataRecord.getOldUniqueKeyValues().toArray());
+    }
+    
+    private boolean isSameBatch(final DataRecord batchDataRecord, final DataRecord dataRecord) {
+        return batchDataRecord.getType() == dataRecord.getType() && batchDataRecord.getTableName().equals(dataRecord.getTableName());
+    }
+    
+    private void addBatchIfNotEmpty(final List<Collection<DataRecord>> batches, final Collection<DataRecord> batch) {
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+    }
+    
+    private boolean writeInOneTransaction(final List<Collection<DataRecord>> batches) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                for (Collection<DataRecord> each : batches) {
+                    writeInTransaction(connection, each);
+                }
+                connection.commit();
+                return true;
+            } catch (final SQLException ex) {
+                connection.rollback();
+                log.warn("Write {} batches in one transaction failed, write them one by one.", batches.size(), ex);
+                return false;
+            }
+        } catch (final SQLException ex) {
+            log.warn("Write {} batches in one transaction failed, write them one by one.", batches.size(), ex);
+            return false;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void writeInTransaction(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(dataRecord.getType(), 1));
+        switch (dataRecord.getType()) {
+            case INSERT:
+                String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+                if (importSQLBuilder.isMultiRowsInsertSupported()) {
+                    executeMultiRowsInsert(connection, schemaName, dataRecords);
+                } else {
+                    executeJdbcBatchInsert(connection, schemaName, dataRecords);
+                }
+                break;
+            case UPDATE:
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
+                break;
+            case DELETE:
+                executeBatchDelete(connection, dataRecords, importerConfig.getShardingColumns(dataRecord.getTableName()));
+                break;
+            default:
+                break;
+        }
+    }
+    
     @SuppressWarnings("BusyWait")
     @SneakyThrows(InterruptedException.class)
     private void batchWrite(final Collection<DataRecord> records) {
@@ -126,46 +226,79 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
-        DataRecord dataRecord = dataRecords.iterator().next();
-        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+        String schemaName = importerConfig.findSchemaName(dataRecords.iterator().next().getTableName()).orElse(null);
+        try (Connection connection = dataSource.getConnection()) {
             if (firstTimeRun) {
-                executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
+                executeBatchInsertFirstTime(connection, schemaName, dataRecords);
             } else {
-                retryBatchInsert(preparedStatement, dataRecords);
+                retryBatchInsert(connection, schemaName, dataRecords);
             }
         } finally {
             runningStatement.set(null);
         }
     }
     
-    private void executeBatchInsertFirstTime(final Connection connection, final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchInsertFirstTime(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
         boolean transactionEnabled = dataRecords.size() > 1;
         if (transactionEnabled) {
             connection.setAutoCommit(false);
         }
-        preparedStatement.setQueryTimeout(30);
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
-            }
-            preparedStatement.addBatch();
+        if (transactionEnabled && importSQLBuilder.isMultiRowsInsertSupported()) {
+            executeMultiRowsInsert(connection, schemaName, dataRecords);
+        } else {
+            executeJdbcBatchInsert(connection, schemaName, dataRecords);
         }
-        preparedStatement.executeBatch();
         if (transactionEnabled) {
             connection.commit();
         }
     }
     
-    private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+    private void executeJdbcBatchInsert(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(importSQLBuilder.buildInsertSQL(schemaName, dataRecords.iterator().next()))) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private void executeMultiRowsInsert(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        int maxRowCount = Math.max(1, MULTI_ROWS_INSERT_MAX_PARAMETER_COUNT / Math.max(1, dataRecord.getColumnCount()));
+        Iterator<DataRecord> iterator = dataRecords.iterator();
+        int remainingRowCount = dataRecords.size();
+        while (remainingRowCount > 0) {
+            int rowCount = Math.min(maxRowCount, remainingRowCount);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(importSQLBuilder.buildMultiRowsInsertSQL(schemaName, dataRecord, rowCount))) {
+                runningStatement.set(preparedStatement);
+                preparedStatement.setQueryTimeout(30);
+                int parameterIndex = 1;
+                for (int i = 0; i < rowCount; i++) {
+                    DataRecord each = iterator.next();
+                    for (int j = 0; j < each.getColumnCount(); j++) {
+                        preparedStatement.setObject(parameterIndex++, each.getColumn(j).getValue());
+                    }
+                }
+                preparedStatement.executeUpdate();
+            }
+            remainingRowCount -= rowCount;
+        }
+    }
+    
+    private void retryBatchInsert(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(importSQLBuilder.buildInsertSQL(schemaName, dataRecords.iterator().next()))) {
+            runningStatement.set(preparedStatement);
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.executeUpdate();
             }
-            preparedStatement.executeUpdate();
         }
     }
     
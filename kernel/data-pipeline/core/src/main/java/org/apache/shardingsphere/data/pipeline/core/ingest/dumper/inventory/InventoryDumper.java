@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
@@ -59,8 +61,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -176,15 +178,16 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperContext.getRateLimitAlgorithm();
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                List<Record> result = new LinkedList<>();
+                List<InventoryColumn> columns = getInventoryColumns(resultSetMetaData, tableMetaData);
+                List<Record> result = new ArrayList<>(batchSize);
                 while (resultSet.next()) {
                     if (result.size() >= batchSize) {
                         if (!dumperContext.hasUniqueKey()) {
                             channel.push(result);
                         }
-                        result = new LinkedList<>();
+                        result = new ArrayList<>(batchSize);
                     }
-                    result.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+                    result.add(loadDataRecord(resultSet, resultSetMetaData, columns));
                     rowCount.incrementAndGet();
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
@@ -219,17 +222,27 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         }
     }
     
-    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
+    private List<InventoryColumn> getInventoryColumns(final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
         int columnCount = resultSetMetaData.getColumnCount();
-        String tableName = dumperContext.getLogicTableName();
-        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, tableName, positionCreator.create(dumperContext, resultSet), columnCount);
         List<String> insertColumnNames = Optional.ofNullable(dumperContext.getInsertColumnNames()).orElse(Collections.emptyList());
-        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == resultSetMetaData.getColumnCount(),
+        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == columnCount,
                 () -> new PipelineInvalidParameterException("Insert column names count not equals ResultSet column count"));
+        List<InventoryColumn> result = new ArrayList<>(columnCount);
         for (int i = 1; i <= columnCount; i++) {
             String columnName = insertColumnNames.isEmpty() ? resultSetMetaData.getColumnName(i) : insertColumnNames.get(i - 1);
-            ShardingSpherePreconditions.checkNotNull(tableMetaData.getColumnMetaData(columnName), () -> new PipelineInvalidParameterException(String.format("Column name is %s", columnName)));
-            result.addColumn(new NormalColumn(columnName, columnValueReaderEngine.read(resultSet, resultSetMetaData, i), true, tableMetaData.getColumnMetaData(columnName).isUniqueKey()));
+            PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(columnName);
+            ShardingSpherePreconditions.checkNotNull(columnMetaData, () -> new PipelineInvalidParameterException(String.format("Column name is %s", columnName)));
+            result.add(new InventoryColumn(columnName, columnMetaData.isUniqueKey()));
+        }
+        return result;
+    }
+    
+    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final List<InventoryColumn> columns) throws SQLException {
+        int columnCount = columns.size();
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, dumperContext.getLogicTableName(), positionCreator.create(dumperContext, resultSet), columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            InventoryColumn column = columns.get(i);
+            result.addColumn(new NormalColumn(column.getName(), columnValueReaderEngine.read(resultSet, resultSetMetaData, i + 1), true, column.isUniqueKey()));
         }
         result.setActualTableName(dumperContext.getActualTableName());
         return result;
@@ -307,13 +320,14 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         int rowCount = 0;
         JobRateLimitAlgorithm rateLimitAlgorithm = dumperContext.getRateLimitAlgorithm();
         ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-        List<Record> dataRecords = new LinkedList<>();
+        List<InventoryColumn> columns = getInventoryColumns(resultSetMetaData, tableMetaData);
+        List<Record> dataRecords = new ArrayList<>(batchSize + 1);
         while (resultSet.next()) {
             if (dataRecords.size() >= batchSize) {
                 channel.push(dataRecords);
-                dataRecords = new LinkedList<>();
+                dataRecords = new ArrayList<>(batchSize + 1);
             }
-            dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+            dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, columns));
             ++rowCount;
             if (!isRunning()) {
                 log.info("Broke because of inventory dump is not running.");
@@ -339,4 +353,13 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
     protected void doStop() {
         Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class InventoryColumn {
+        
+        private final String name;
+        
+        private final boolean uniqueKey;
+    }
 }
@@ -27,7 +27,6 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPositi
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -47,9 +46,9 @@ public final class DataRecord extends Record {
     
     private final List<Column> columns;
     
-    private final Collection<Object> uniqueKeyValue = new LinkedList<>();
+    private final Collection<Object> uniqueKeyValue = new ArrayList<>(1);
     
-    private final Collection<Object> oldUniqueKeyValues = new LinkedList<>();
+    private final Collection<Object> oldUniqueKeyValues = new ArrayList<>(1);
     
     private String actualTableName;
     
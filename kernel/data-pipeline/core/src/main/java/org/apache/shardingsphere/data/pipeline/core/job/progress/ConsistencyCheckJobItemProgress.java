@@ -39,6 +39,8 @@ public final class ConsistencyCheckJobItemProgress implements PipelineJobItemPro
     
     private final String ignoredTableNames;
     
+    private final String checkedTableNames;
+    
     private final Long checkedRecordsCount;
     
     private final Long recordsCount;
@@ -59,6 +61,7 @@ public final class ConsistencyCheckJobItemProgress implements PipelineJobItemPro
     public ConsistencyCheckJobItemProgress(final ConsistencyCheckJobItemProgressContext context) {
         tableNames = String.join(",", context.getTableNames());
         ignoredTableNames = String.join(",", context.getIgnoredTableNames());
+        checkedTableNames = String.join(",", context.getCheckedTableNames());
         checkedRecordsCount = context.getCheckedRecordsCount().get();
         recordsCount = context.getRecordsCount();
         checkBeginTimeMillis = context.getCheckBeginTimeMillis();
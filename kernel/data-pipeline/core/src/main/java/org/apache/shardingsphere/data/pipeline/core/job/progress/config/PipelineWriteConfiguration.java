@@ -35,4 +35,6 @@ public final class PipelineWriteConfiguration {
     private final Integer batchSize;
     
     private final AlgorithmConfiguration rateLimiter;
+    
+    private final Boolean partitionedApply;
 }
@@ -36,6 +36,8 @@ public final class YamlConsistencyCheckJobItemProgress implements YamlPipelineJo
     
     private String ignoredTableNames;
     
+    private String checkedTableNames;
+    
     private Long checkedRecordsCount;
     
     private Long recordsCount;
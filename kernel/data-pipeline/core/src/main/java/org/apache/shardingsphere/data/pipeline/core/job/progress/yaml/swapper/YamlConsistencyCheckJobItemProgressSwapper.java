@@ -32,6 +32,7 @@ public final class YamlConsistencyCheckJobItemProgressSwapper implements YamlPip
         result.setStatus(data.getStatus().name());
         result.setTableNames(data.getTableNames());
         result.setIgnoredTableNames(data.getIgnoredTableNames());
+        result.setCheckedTableNames(data.getCheckedTableNames());
         result.setCheckedRecordsCount(data.getCheckedRecordsCount());
         result.setRecordsCount(data.getRecordsCount());
         result.setCheckBeginTimeMillis(data.getCheckBeginTimeMillis());
@@ -44,8 +45,8 @@ public final class YamlConsistencyCheckJobItemProgressSwapper implements YamlPip
     
     @Override
     public ConsistencyCheckJobItemProgress swapToObject(final YamlConsistencyCheckJobItemProgress yamlConfig) {
-        ConsistencyCheckJobItemProgress result = new ConsistencyCheckJobItemProgress(yamlConfig.getTableNames(), yamlConfig.getIgnoredTableNames(), yamlConfig.getCheckedRecordsCount(),
-                yamlConfig.getRecordsCount(), yamlConfig.getCheckBeginTimeMillis(), yamlConfig.getCheckEndTimeMillis(),
+        ConsistencyCheckJobItemProgress result = new ConsistencyCheckJobItemProgress(yamlConfig.getTableNames(), yamlConfig.getIgnoredTableNames(), yamlConfig.getCheckedTableNames(),
+                yamlConfig.getCheckedRecordsCount(), yamlConfig.getRecordsCount(), yamlConfig.getCheckBeginTimeMillis(), yamlConfig.getCheckEndTimeMillis(),
                 yamlConfig.getSourceTableCheckPositions(), yamlConfig.getTargetTableCheckPositions(), yamlConfig.getSourceDatabaseType());
         result.setStatus(JobStatus.valueOf(yamlConfig.getStatus()));
         return result;
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.splitter;
 
+import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.context.TransmissionJobItemContext;
@@ -34,11 +35,15 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryRecordsCountCalculator;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -46,6 +51,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -126,7 +132,10 @@ public final class InventoryDumperContextSplitter {
                 return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
             }
             if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+                int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+                return tableRecordsCount > shardingSize
+                        ? getPositionsByStringUniqueKeyValues(jobItemContext, dumperContext, shardingSize)
+                        : Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
             }
         }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
@@ -148,6 +157,55 @@ public final class InventoryDumperContextSplitter {
         }
     }
     
+    private Collection<IngestPosition> getPositionsByStringUniqueKeyValues(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext, final int shardingSize) {
+        DatabaseType databaseType = jobItemContext.getJobConfig().getSourceDatabaseType();
+        if (!DatabaseTypedSPILoader.findService(DialectPipelineSQLBuilder.class, databaseType).isPresent()) {
+            return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        }
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(databaseType);
+        String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
+        String firstPageSQL = pipelineSQLBuilder.buildUniqueKeyPageBoundsSQL(schemaName, dumperContext.getActualTableName(), uniqueKey, true);
+        String nextPageSQL = pipelineSQLBuilder.buildUniqueKeyPageBoundsSQL(schemaName, dumperContext.getActualTableName(), uniqueKey, false);
+        Collection<IngestPosition> result = new LinkedList<>();
+        try (Connection connection = sourceDataSource.getConnection()) {
+            Optional<StringPrimaryKeyIngestPosition> position = queryStringUniqueKeyPageBounds(connection, firstPageSQL, null, shardingSize);
+            while (position.isPresent()) {
+                if (!isSplittableStringUniqueKeyValue(position.get().getBeginValue()) || !isSplittableStringUniqueKeyValue(position.get().getEndValue())) {
+                    return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+                }
+                result.add(position.get());
+                position = queryStringUniqueKeyPageBounds(connection, nextPageSQL, position.get().getEndValue(), shardingSize);
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        return result.isEmpty() ? Collections.singleton(new StringPrimaryKeyIngestPosition(null, null)) : result;
+    }
+    
+    private Optional<StringPrimaryKeyIngestPosition> queryStringUniqueKeyPageBounds(final Connection connection, final String sql, final String previousEndValue,
+                                                                                    final int shardingSize) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            if (null != previousEndValue) {
+                preparedStatement.setString(parameterIndex++, previousEndValue);
+            }
+            preparedStatement.setInt(parameterIndex, shardingSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                String beginValue = resultSet.getString(1);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(new StringPrimaryKeyIngestPosition(beginValue, resultSet.getString(2)));
+            }
+        }
+    }
+    
+    private boolean isSplittableStringUniqueKeyValue(final String value) {
+        // Empty value could not be range bound, and comma is the separator of persisted position.
+        return !Strings.isNullOrEmpty(value) && !value.contains(",");
+    }
+    
     private InventoryDumperContext createPrimaryKeySplitDumperContext(final InventoryDumperContext dumperContext, final IngestPosition position,
                                                                       final int shardingItem, final int batchSize, final JobRateLimitAlgorithm rateLimitAlgorithm,
                                                                       final TransmissionJobItemContext jobItemContext) {
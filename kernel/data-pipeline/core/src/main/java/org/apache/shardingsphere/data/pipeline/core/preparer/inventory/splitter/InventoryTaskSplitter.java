@@ -72,7 +72,7 @@ public final class InventoryTaskSplitter {
             Dumper dumper = new InventoryDumper(each, channel, sourceDataSource, jobItemContext.getSourceMetaDataLoader(), positionCreator);
             Importer importer = new SingleChannelConsumerImporter(channel, importerConfig.getBatchSize(), 3000L, jobItemContext.getSink(), jobItemContext);
             result.add(new InventoryTask(PipelineTaskUtils.generateInventoryTaskId(each),
-                    processContext.getInventoryDumperExecuteEngine(), processContext.getInventoryImporterExecuteEngine(), dumper, importer, position));
+                    processContext.getInventoryDumperExecuteEngine(), processContext.getInventoryImporterExecuteEngine(), channel, dumper, importer, position));
         }
         log.info("Split inventory tasks cost {} ms", System.currentTimeMillis() - startTimeMillis);
         return result;
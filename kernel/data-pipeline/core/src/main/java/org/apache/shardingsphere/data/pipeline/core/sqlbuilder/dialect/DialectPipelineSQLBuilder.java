@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -52,6 +53,15 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Judge whether multi rows insert is supported.
+     *
+     * @return supported or not
+     */
+    default boolean isMultiRowsInsertSupported() {
+        return false;
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -82,6 +92,16 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build row digest expression.
+     *
+     * @param columnNames escaped column names
+     * @return built SQL expression
+     */
+    default Optional<String> buildRowDigestExpression(final List<String> columnNames) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
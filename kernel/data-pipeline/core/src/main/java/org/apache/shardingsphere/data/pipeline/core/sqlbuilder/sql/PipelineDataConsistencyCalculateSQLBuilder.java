@@ -128,4 +128,25 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build range digest SQL.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnNames column names
+     * @param uniqueKey unique key of range condition, null means whole table
+     * @return built SQL
+     */
+    public Optional<String> buildRangeDigestSQL(final QualifiedTable qualifiedTable, final Collection<String> columnNames, @Nullable final String uniqueKey) {
+        Optional<String> rowDigestExpression = dialectSQLBuilder.buildRowDigestExpression(columnNames.stream().map(sqlSegmentBuilder::getEscapedIdentifier).collect(Collectors.toList()));
+        if (!rowDigestExpression.isPresent()) {
+            return Optional.empty();
+        }
+        String result = String.format("SELECT COUNT(1), SUM(%s) FROM %s", rowDigestExpression.get(), sqlSegmentBuilder.getQualifiedTableName(qualifiedTable));
+        if (null == uniqueKey) {
+            return Optional.of(result);
+        }
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return Optional.of(String.format("%s WHERE %s>=? AND %s<=?", result, escapedUniqueKey, escapedUniqueKey));
+    }
 }
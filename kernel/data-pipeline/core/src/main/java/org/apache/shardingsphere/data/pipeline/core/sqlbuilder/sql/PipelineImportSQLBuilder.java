@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -70,14 +71,40 @@ public final class PipelineImportSQLBuilder {
     }
     
     private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord) {
-        String insertMainClause = buildInsertMainClause(schemaName, dataRecord);
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, 1);
         return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
     }
     
-    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+    /**
+     * Build multi rows insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multi rows insert SQL
+     */
+    public String buildMultiRowsInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        if (1 == rowCount) {
+            return buildInsertSQL(schemaName, dataRecord);
+        }
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, rowCount);
+        return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
+    }
+    
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        String valuesLiteral = "(" + dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",")) + ")";
+        return String.format("INSERT INTO %s(%s) VALUES%s", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral,
+                String.join(",", Collections.nCopies(rowCount, valuesLiteral)));
+    }
+    
+    /**
+     * Judge whether multi rows insert is supported.
+     *
+     * @return supported or not
+     */
+    public boolean isMultiRowsInsertSupported() {
+        return dialectSQLBuilder.isMultiRowsInsertSupported();
     }
     
     /**
@@ -95,6 +95,27 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key page bounds SQL.
+     *
+     * <p>Minimum and maximum unique key values of a page of rows ordered by unique key are queried, so range bounds are derived from rows instead of key values.
+     * Parameters are the exclusive beginning unique key value if it is not the first page, and the page size.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstPage whether to query the first page
+     * @return unique key page bounds SQL
+     */
+    public String buildUniqueKeyPageBoundsSQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstPage) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName);
+        String pageSQL = firstPage
+                ? String.format("SELECT %s FROM %s ORDER BY %s ASC", escapedUniqueKey, qualifiedTableName, escapedUniqueKey)
+                : String.format("SELECT %s FROM %s WHERE %s>? ORDER BY %s ASC", escapedUniqueKey, qualifiedTableName, escapedUniqueKey, escapedUniqueKey);
+        return String.format("SELECT MIN(%s), MAX(%s) FROM (%s) page_rows", escapedUniqueKey, escapedUniqueKey, dialectSQLBuilder.wrapWithPageQuery(pageSQL));
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
@@ -34,7 +35,7 @@ import java.util.concurrent.CompletableFuture;
  * Incremental task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"incrementalExecuteEngine", "dumper", "importers", "taskProgress"})
+@ToString(exclude = {"incrementalExecuteEngine", "channel", "dumper", "importers", "taskProgress"})
 public final class IncrementalTask implements PipelineTask {
     
     @Getter
@@ -42,6 +43,8 @@ public final class IncrementalTask implements PipelineTask {
     
     private final PipelineExecuteEngine incrementalExecuteEngine;
     
+    private final PipelineChannel channel;
+    
     private final Dumper dumper;
     
     private final Collection<Importer> importers;
@@ -64,5 +67,6 @@ public final class IncrementalTask implements PipelineTask {
     public void stop() {
         dumper.stop();
         importers.forEach(PipelineLifecycleRunnable::stop);
+        channel.close();
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -45,6 +46,8 @@ public final class InventoryTask implements PipelineTask {
     
     private final PipelineExecuteEngine inventoryImporterExecuteEngine;
     
+    private final PipelineChannel channel;
+    
     private final Dumper dumper;
     
     private final Importer importer;
@@ -65,6 +68,7 @@ public final class InventoryTask implements PipelineTask {
     public void stop() {
         dumper.stop();
         importer.stop();
+        channel.close();
     }
     
     @Override
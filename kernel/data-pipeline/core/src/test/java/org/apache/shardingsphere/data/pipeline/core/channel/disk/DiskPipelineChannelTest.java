@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.disk;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DiskPipelineChannelTest {
+    
+    @Test
+    void assertFetchAndAckSpilledRecords(@TempDir final Path directory) throws IOException {
+        Path channelDirectory = Files.createDirectories(directory.resolve("foo_channel"));
+        DiskPipelineChannel channel = new DiskPipelineChannel(1, channelDirectory, 1L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> inMemoryRecords = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(inMemoryRecords);
+        channel.push(Collections.singletonList(createDataRecord(1)));
+        channel.push(Collections.singletonList(createDataRecord(2)));
+        assertThat(countSegments(channelDirectory), is(2L));
+        List<Record> actual = channel.fetch(3, 1000L);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), sameInstance(inMemoryRecords.get(0)));
+        assertDataRecord(actual.get(1), 1);
+        assertDataRecord(actual.get(2), 2);
+        assertThat(countSegments(channelDirectory), is(2L));
+        channel.ack(actual.subList(0, 2));
+        assertThat(countSegments(channelDirectory), is(1L));
+        channel.ack(actual);
+        assertThat(countSegments(channelDirectory), is(1L));
+        channel.close();
+        assertFalse(Files.exists(channelDirectory));
+    }
+    
+    @Test
+    void assertPeekAndPollSpilledRecords(@TempDir final Path directory) {
+        DiskPipelineChannel channel = new DiskPipelineChannel(1, directory, 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(Collections.singletonList(createDataRecord(1)));
+        channel.push(Collections.singletonList(createDataRecord(2)));
+        assertDataRecord(channel.poll().get(0), 1);
+        List<Record> peekedRecords = channel.peek();
+        assertDataRecord(peekedRecords.get(0), 2);
+        assertThat(channel.poll(), sameInstance(peekedRecords));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertClose(@TempDir final Path directory) throws IOException {
+        Path channelDirectory = Files.createDirectories(directory.resolve("foo_channel"));
+        DiskPipelineChannel channel = new DiskPipelineChannel(1, channelDirectory, 1L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(Collections.singletonList(createDataRecord(1)));
+        channel.push(Collections.singletonList(createDataRecord(2)));
+        channel.close();
+        assertFalse(Files.exists(channelDirectory));
+        channel.push(Collections.singletonList(createDataRecord(3)));
+        assertTrue(channel.fetch(1, 1000L).isEmpty());
+        assertTrue(channel.poll().isEmpty());
+    }
+    
+    @Test
+    void assertAck(@TempDir final Path directory) {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new DiskPipelineChannel(1, directory, 1024L, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private DataRecord createDataRecord(final int id) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_schema", "foo_tbl", new IngestPlaceholderPosition(), 2);
+        result.setActualTableName("foo_tbl_0");
+        result.setCsn(10L + id);
+        result.setCommitTime(100L + id);
+        result.addColumn(new NormalColumn("id", id, true, true));
+        result.addColumn(new NormalColumn("values", Arrays.asList("foo", null), true, false));
+        return result;
+    }
+    
+    private void assertDataRecord(final Record actual, final int id) {
+        assertThat(actual, instanceOf(DataRecord.class));
+        DataRecord dataRecord = (DataRecord) actual;
+        assertThat(dataRecord.getPosition(), instanceOf(IngestPlaceholderPosition.class));
+        assertThat(dataRecord.getType(), is(PipelineSQLOperationType.INSERT));
+        assertThat(dataRecord.getSchemaName(), is("foo_schema"));
+        assertThat(dataRecord.getTableName(), is("foo_tbl"));
+        assertThat(dataRecord.getActualTableName(), is("foo_tbl_0"));
+        assertThat(dataRecord.getCsn(), is(10L + id));
+        assertThat(dataRecord.getCommitTime(), is(100L + id));
+        assertThat(dataRecord.getColumn(0).getValue(), is(id));
+        assertThat(dataRecord.getColumn(0).isUniqueKey(), is(true));
+        assertThat(dataRecord.getColumn(1).getValue(), is(Arrays.asList("foo", null)));
+        assertThat(dataRecord.getUniqueKeyValue().iterator().next(), is(id));
+    }
+    
+    private long countSegments(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
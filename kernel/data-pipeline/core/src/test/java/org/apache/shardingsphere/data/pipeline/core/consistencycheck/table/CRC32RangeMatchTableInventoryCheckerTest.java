@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CRC32RangeMatchTableInventoryCheckerTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertCheckMatched() throws SQLException {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(createRows()), mockDataSource(createRows()), progressContext);
+        assertTrue(new CRC32RangeMatchTableInventoryChecker(param, 30, 5).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(100L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(100L));
+    }
+    
+    @Test
+    void assertCheckUnmatched() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows();
+        targetRows.put(57L, 0L);
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(createRows()), mockDataSource(targetRows), progressContext);
+        assertFalse(new CRC32RangeMatchTableInventoryChecker(param, 30, 5).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(30L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(30L));
+    }
+    
+    @Test
+    void assertCheckResumedFromCheckedPosition() throws SQLException {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        progressContext.getSourceTableCheckPositions().put("foo_tbl", 90L);
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(createRows()), mockDataSource(createRows()), progressContext);
+        assertTrue(new CRC32RangeMatchTableInventoryChecker(param, 30, 5).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(10L));
+    }
+    
+    @Test
+    void assertCheckMatchedWithSparseUniqueKeys() throws SQLException {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(createRows(1000000000000L)), mockDataSource(createRows(1000000000000L)), progressContext);
+        assertTrue(new CRC32RangeMatchTableInventoryChecker(param, 30, 5).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(100000000000000L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(100L));
+    }
+    
+    @Test
+    void assertCheckUnmatchedWithSparseUniqueKeys() throws SQLException {
+        NavigableMap<Long, Long> targetRows = createRows(1000000000000L);
+        targetRows.put(57000000000000L, 0L);
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(createRows(1000000000000L)), mockDataSource(targetRows), progressContext);
+        assertFalse(new CRC32RangeMatchTableInventoryChecker(param, 30, 5).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(30000000000000L));
+    }
+    
+    @Test
+    void assertCheckMatchedWithExtremeUniqueKeys() throws SQLException {
+        NavigableMap<Long, Long> rows = new TreeMap<>();
+        rows.put(Long.MIN_VALUE, 1L);
+        rows.put(0L, 2L);
+        rows.put(Long.MAX_VALUE, 3L);
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+        TableInventoryCheckParameter param = createCheckParameter(mockDataSource(rows), mockDataSource(new TreeMap<>(rows)), progressContext);
+        assertTrue(new CRC32RangeMatchTableInventoryChecker(param, 2, 1).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("foo_tbl"), is(Long.MAX_VALUE));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(3L));
+    }
+    
+    private NavigableMap<Long, Long> createRows() {
+        return createRows(1L);
+    }
+    
+    private NavigableMap<Long, Long> createRows(final long step) {
+        NavigableMap<Long, Long> result = new TreeMap<>();
+        for (long i = 1L; i <= 100L; i++) {
+            result.put(i * step, i * 31L);
+        }
+        return result;
+    }
+    
+    private TableInventoryCheckParameter createCheckParameter(final PipelineDataSource sourceDataSource, final PipelineDataSource targetDataSource,
+                                                              final ConsistencyCheckJobItemProgressContext progressContext) {
+        QualifiedTable table = new QualifiedTable(null, "foo_tbl");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.BIGINT, "bigint", false, true, true);
+        return new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table, Arrays.asList("id", "foo_col"),
+                Collections.singletonList(uniqueKey), null, progressContext);
+    }
+    
+    private PipelineDataSource mockDataSource(final NavigableMap<Long, Long> rows) throws SQLException {
+        PipelineDataSource result = mock(PipelineDataSource.class);
+        when(result.getDatabaseType()).thenReturn(databaseType);
+        when(result.getConnection()).thenAnswer(invocation -> mockConnection(rows));
+        return result;
+    }
+    
+    private Connection mockConnection(final NavigableMap<Long, Long> rows) throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.prepareStatement(anyString())).thenAnswer(invocation -> mockPreparedStatement(invocation.getArgument(0), rows));
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final String sql, final NavigableMap<Long, Long> rows) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        long[] range = {rows.firstKey(), rows.lastKey()};
+        int[] pageSize = {rows.size()};
+        doAnswer(invocation -> {
+            range[(int) invocation.getArgument(0) - 1] = invocation.getArgument(1);
+            return null;
+        }).when(result).setLong(anyInt(), anyLong());
+        doAnswer(invocation -> {
+            pageSize[0] = invocation.getArgument(1);
+            return null;
+        }).when(result).setInt(anyInt(), anyInt());
+        if (sql.contains("ORDER BY")) {
+            boolean firstPage = !sql.contains("WHERE");
+            when(result.executeQuery()).thenAnswer(invocation -> mockBoundsResultSet(getPage(firstPage ? rows : rows.tailMap(range[0], false), pageSize[0])));
+        } else {
+            when(result.executeQuery()).thenAnswer(invocation -> sql.startsWith("SELECT MIN") ? mockBoundsResultSet(rows) : mockDigestResultSet(rows.subMap(range[0], true, range[1], true)));
+        }
+        return result;
+    }
+    
+    private NavigableMap<Long, Long> getPage(final NavigableMap<Long, Long> rows, final int pageSize) {
+        NavigableMap<Long, Long> result = new TreeMap<>();
+        for (Entry<Long, Long> entry : rows.entrySet()) {
+            if (result.size() >= pageSize) {
+                break;
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+    
+    private ResultSet mockBoundsResultSet(final NavigableMap<Long, Long> rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        if (rows.isEmpty()) {
+            when(result.wasNull()).thenReturn(true);
+            return result;
+        }
+        when(result.getLong(1)).thenReturn(rows.firstKey());
+        when(result.getLong(2)).thenReturn(rows.lastKey());
+        return result;
+    }
+    
+    private ResultSet mockDigestResultSet(final NavigableMap<Long, Long> rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn((long) rows.size());
+        when(result.getBigDecimal(2)).thenReturn(BigDecimal.valueOf(rows.values().stream().mapToLong(Long::longValue).sum()));
+        return result;
+    }
+}
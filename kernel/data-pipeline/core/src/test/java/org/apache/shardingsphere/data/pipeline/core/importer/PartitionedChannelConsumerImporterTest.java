@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedChannelConsumerImporterTest {
+    
+    @Test
+    void assertWriteByPartitions() {
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, null));
+        }
+        records.add(createDataRecord(PipelineSQLOperationType.UPDATE, 1, 1));
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mockChannel(records);
+        List<PipelineSink> sinks = Arrays.asList(mockSink(), mockSink());
+        PipelineJobProgressListener listener = mock(PipelineJobProgressListener.class);
+        new PartitionedChannelConsumerImporter(channel, 100, 10L, sinks, listener).run();
+        Collection<Object> writtenKeys = new ArrayList<>();
+        for (PipelineSink each : sinks) {
+            writtenKeys.addAll(getWrittenKeys(each));
+        }
+        assertThat(writtenKeys.size(), is(11));
+        verify(channel).ack(records);
+        ArgumentCaptor<PipelineJobUpdateProgress> progressCaptor = ArgumentCaptor.forClass(PipelineJobUpdateProgress.class);
+        verify(listener).onProgressUpdated(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getProcessedRecordsCount(), is(11));
+    }
+    
+    @Test
+    void assertWriteWithUniqueKeyChanged() {
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, null), createDataRecord(PipelineSQLOperationType.UPDATE, 2, 1),
+                new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mockChannel(records);
+        PipelineSink firstSink = mockSink();
+        PipelineSink secondSink = mockSink();
+        new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(firstSink, secondSink), mock(PipelineJobProgressListener.class)).run();
+        verify(firstSink).write("", records);
+        verify(secondSink, never()).write(anyString(), any());
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int id, final Integer oldId) {
+        DataRecord result = new DataRecord(type, "foo_tbl", new IngestPlaceholderPosition(), 1);
+        result.addColumn(new NormalColumn("id", null == oldId ? id : oldId, id, true, true));
+        return result;
+    }
+    
+    private PipelineChannel mockChannel(final List<Record> records) {
+        PipelineChannel result = mock(PipelineChannel.class);
+        when(result.fetch(anyInt(), anyLong())).thenReturn(records);
+        return result;
+    }
+    
+    private PipelineSink mockSink() {
+        PipelineSink result = mock(PipelineSink.class);
+        when(result.write(anyString(), any())).thenAnswer(invocation -> new PipelineJobUpdateProgress(((Collection<?>) invocation.getArgument(1)).size()));
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<Object> getWrittenKeys(final PipelineSink sink) {
+        ArgumentCaptor<Collection<Record>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink, times(1)).write(anyString(), captor.capture());
+        Collection<Object> result = new ArrayList<>();
+        for (Record each : captor.getValue()) {
+            result.add(((DataRecord) each).getUniqueKeyValue().iterator().next());
+        }
+        return result;
+    }
+}
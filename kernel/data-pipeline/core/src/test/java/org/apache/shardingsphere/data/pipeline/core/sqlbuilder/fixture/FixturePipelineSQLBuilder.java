@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.dialect.DialectPi
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilder {
@@ -36,6 +37,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRowDigestExpression(final List<String> columnNames) {
+        return Optional.of(String.format("CRC32(CONCAT_WS('#',%s))", String.join(",", columnNames)));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         return Collections.emptyList();
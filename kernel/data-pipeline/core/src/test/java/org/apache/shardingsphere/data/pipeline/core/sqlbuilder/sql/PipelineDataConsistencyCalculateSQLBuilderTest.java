@@ -76,4 +76,12 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildRangeDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildRangeDigestSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, "order_id");
+        assertThat(actual, is(Optional.of("SELECT COUNT(1), SUM(CRC32(CONCAT_WS('#',order_id,user_id,status))) FROM t_order WHERE order_id>=? AND order_id<=?")));
+        actual = sqlBuilder.buildRangeDigestSQL(new QualifiedTable(null, "t_order"), COLUMN_NAMES, null);
+        assertThat(actual, is(Optional.of("SELECT COUNT(1), SUM(CRC32(CONCAT_WS('#',order_id,user_id,status))) FROM t_order")));
+    }
 }
@@ -43,6 +43,18 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertBuildMultiRowsInsertSQL() {
+        String actual = sqlBuilder.buildMultiRowsInsertSQL(null, createDataRecordWithoutUniqueKey(), 3);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col) VALUES(?,?),(?,?),(?,?)"));
+    }
+    
+    @Test
+    void assertBuildMultiRowsInsertSQLWithSingleRow() {
+        String actual = sqlBuilder.buildMultiRowsInsertSQL(null, createDataRecordWithUniqueKey(), 1);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -54,6 +54,14 @@ class PipelinePrepareSQLBuilderTest {
         assertThat(sqlBuilder.buildUniqueKeyMinMaxValuesSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildUniqueKeyPageBoundsSQL() {
+        assertThat(sqlBuilder.buildUniqueKeyPageBoundsSQL("foo_schema", "foo_tbl", "foo_key", true),
+                is("SELECT MIN(foo_key), MAX(foo_key) FROM (SELECT foo_key FROM foo_tbl ORDER BY foo_key ASC) page_rows"));
+        assertThat(sqlBuilder.buildUniqueKeyPageBoundsSQL("foo_schema", "foo_tbl", "foo_key", false),
+                is("SELECT MIN(foo_key), MAX(foo_key) FROM (SELECT foo_key FROM foo_tbl WHERE foo_key>? ORDER BY foo_key ASC) page_rows"));
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_schema", "foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -44,6 +44,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -57,10 +58,14 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final BiPredicate<String, String> tableFilter;
+    
     private List<MySQLBaseBinlogEvent> records = new LinkedList<>();
     
-    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX,
+                                         final BiPredicate<String, String> tableFilter) {
         this.decodeWithTX = decodeWithTX;
+        this.tableFilter = tableFilter;
         binlogContext = new MySQLBinlogContext(checksumLength, tableMap);
     }
     
@@ -158,13 +163,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return decodeRowsEvent(binlogEventHeader, payload);
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader, payload));
             case XID_EVENT:
@@ -195,28 +198,28 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload));
     }
     
-    private MySQLWriteRowsBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
-    }
-    
-    private MySQLUpdateRowsBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
-    }
-    
-    private MySQLDeleteRowsBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Optional<MySQLBaseBinlogEvent> decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
+        if (!tableFilter.test(tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName())) {
+            // Rows of unsubscribed tables are skipped as raw bytes, the following XID event still carries the binlog position.
+            packet.skipRows(payload);
+            return Optional.empty();
+        }
         packet.readRows(tableMapEventPacket, payload);
-        return new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case WRITE_ROWS_EVENT_V1:
+            case WRITE_ROWS_EVENT_V2:
+                return Optional.of(new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
+                        binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows()));
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return Optional.of(new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
+                        binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2()));
+            default:
+                return Optional.of(new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
+                        binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows()));
+        }
     }
     
     private PlaceholderBinlogEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
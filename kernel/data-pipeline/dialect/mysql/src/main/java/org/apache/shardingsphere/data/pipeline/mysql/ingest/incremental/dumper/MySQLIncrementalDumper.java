@@ -50,8 +50,8 @@ import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentif
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -85,8 +85,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), this::isSubscribedTable);
     }
     
     private int generateServerId() {
@@ -104,7 +104,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private void handleEvents(final List<MySQLBaseBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+        List<Record> dataRecords = new ArrayList<>(events.size());
         for (MySQLBaseBinlogEvent each : events) {
             dataRecords.addAll(handleEvent(each));
         }
@@ -118,7 +118,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         MySQLBaseRowsBinlogEvent rowsEvent = (MySQLBaseRowsBinlogEvent) event;
-        if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperContext.getCommonContext().getTableNameMapper().containsTable(rowsEvent.getTableName())) {
+        if (!isSubscribedTable(rowsEvent.getDatabaseName(), rowsEvent.getTableName())) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
@@ -134,6 +134,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return Collections.emptyList();
     }
     
+    private boolean isSubscribedTable(final String databaseName, final String tableName) {
+        return catalog.equals(databaseName) && dumperContext.getCommonContext().getTableNameMapper().containsTable(tableName);
+    }
+    
     private PlaceholderRecord createPlaceholderRecord(final MySQLBaseBinlogEvent event) {
         PlaceholderRecord result = new PlaceholderRecord(new MySQLBinlogPosition(event.getFileName(), event.getPosition()));
         result.setCommitTime(event.getTimestamp() * 1000L);
@@ -146,7 +150,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private List<DataRecord> handleWriteRowsEvent(final MySQLWriteRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+        List<DataRecord> result = new ArrayList<>(event.getAfterRows().size());
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.INSERT, event, each.length);
             for (int i = 0; i < each.length; i++) {
@@ -159,7 +163,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private List<DataRecord> handleUpdateRowsEvent(final MySQLUpdateRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+        List<DataRecord> result = new ArrayList<>(event.getBeforeRows().size());
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -177,7 +181,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     }
     
     private List<DataRecord> handleDeleteRowsEvent(final MySQLDeleteRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
-        List<DataRecord> result = new LinkedList<>();
+        List<DataRecord> result = new ArrayList<>(event.getBeforeRows().size());
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.DELETE, event, each.length);
             for (int i = 0, length = each.length; i < length; i++) {
@@ -30,7 +30,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -49,6 +51,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(result.toString());
     }
     
+    @Override
+    public boolean isMultiRowsInsertSupported() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
@@ -64,6 +71,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRowDigestExpression(final List<String> columnNames) {
+        return Optional.of(String.format("CRC32(CONCAT_WS('#',%s))", columnNames.stream().map(each -> String.format("ISNULL(%s),%s", each, each)).collect(Collectors.joining(","))));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
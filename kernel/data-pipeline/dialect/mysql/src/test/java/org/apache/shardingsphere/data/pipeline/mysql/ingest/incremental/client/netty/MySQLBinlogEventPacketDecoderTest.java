@@ -74,7 +74,7 @@ class MySQLBinlogEventPacketDecoderTest {
     
     @BeforeEach
     void setUp() throws NoSuchFieldException, IllegalAccessException {
-        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true);
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, (databaseName, tableName) -> true);
         binlogContext = (MySQLBinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), binlogEventPacketDecoder);
         when(channelHandlerContext.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
         columnDefs = Lists.newArrayList(new MySQLBinlogColumnDef(MySQLBinaryColumnType.LONGLONG), new MySQLBinlogColumnDef(MySQLBinaryColumnType.LONG),
@@ -191,6 +191,24 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeRowEventOfUnsubscribedTable() throws NoSuchFieldException, IllegalAccessException {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, (databaseName, tableName) -> false);
+        ((MySQLBinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder)).getTableMap().put(123L, tableMapEventPacket);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertTrue(decodedEvents.isEmpty());
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(1));
+        assertThat(actualEventList.get(0), instanceOf(MySQLXidBinlogEvent.class));
+        assertFalse(byteBuf.isReadable());
+    }
+    
     @Test
     void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
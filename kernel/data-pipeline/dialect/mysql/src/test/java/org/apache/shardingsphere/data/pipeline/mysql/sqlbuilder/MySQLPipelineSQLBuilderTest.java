@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -83,6 +84,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildRowDigestExpression() {
+        Optional<String> actual = sqlBuilder.buildRowDigestExpression(Arrays.asList("id", "name"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("CRC32(CONCAT_WS('#',ISNULL(id),id,ISNULL(name),name))"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
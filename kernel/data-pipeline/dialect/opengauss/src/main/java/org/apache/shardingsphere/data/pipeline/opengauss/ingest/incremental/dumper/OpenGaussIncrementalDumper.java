@@ -36,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.ParallelWALEventDecoder;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.BeginTXEvent;
@@ -53,6 +54,7 @@ import java.sql.Statement;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
@@ -69,6 +71,8 @@ public final class OpenGaussIncrementalDumper extends AbstractPipelineLifecycleR
     
     private static final int DEFAULT_VERSION = 2;
     
+    private static final int DECODE_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    
     private final IncrementalDumperContext dumperContext;
     
     private final AtomicReference<WALPosition> walPosition;
@@ -116,7 +120,6 @@ public final class OpenGaussIncrementalDumper extends AbstractPipelineLifecycleR
         }
     }
     
-    @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
         PGReplicationStream stream = null;
         int majorVersion = getMajorVersion();
@@ -124,30 +127,54 @@ public final class OpenGaussIncrementalDumper extends AbstractPipelineLifecycleR
             stream = logicalReplication.createReplicationStream(
                     connection, walPosition.get().getLogSequenceNumber(), PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId()), majorVersion);
             DecodingPlugin decodingPlugin = new MppdbDecodingPlugin(new OpenGaussTimestampUtils(connection.getTimestampUtils()), decodeWithTX, majorVersion >= 3);
+            try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPlugin, DECODE_PARALLELISM, dumperContext.getJobId() + "-wal-decode-%d")) {
+                dump(stream, decoder, majorVersion);
+            }
+        } finally {
+            if (null != stream) {
+                try {
+                    stream.close();
+                } catch (final SQLException ignored) {
+                }
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void dump(final PGReplicationStream stream, final ParallelWALEventDecoder decoder, final int majorVersion) throws SQLException {
+        try {
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
-                    Thread.sleep(10L);
+                    Optional<AbstractWALEvent> event = decoder.take();
+                    if (event.isPresent()) {
+                        processEvent(event.get(), majorVersion);
+                    } else {
+                        Thread.sleep(10L);
+                    }
                     continue;
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new OpenGaussLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event, majorVersion);
-                } else {
-                    processEventIgnoreTX(event);
+                decoder.submit(message, new OpenGaussLogSequenceNumber(stream.getLastReceiveLSN()));
+                for (Optional<AbstractWALEvent> event = decoder.poll(); event.isPresent(); event = decoder.poll()) {
+                    processEvent(event.get(), majorVersion);
                 }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
             }
         } finally {
-            if (null != stream) {
-                try {
-                    stream.close();
-                } catch (final SQLException ignored) {
-                }
+            for (Optional<AbstractWALEvent> event = decoder.take(); event.isPresent(); event = decoder.take()) {
+                processEvent(event.get(), majorVersion);
             }
         }
     }
     
+    private void processEvent(final AbstractWALEvent event, final int majorVersion) {
+        if (decodeWithTX) {
+            processEventWithTX(event, majorVersion);
+        } else {
+            processEventIgnoreTX(event);
+        }
+        walPosition.set(new WALPosition(event.getLogSequenceNumber()));
+    }
+    
     private int getMajorVersion() throws SQLException {
         StandardPipelineDataSourceConfiguration dataSourceConfig = (StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig();
         try (
@@ -52,6 +52,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return Optional.of(result.toString());
     }
     
+    @Override
+    public boolean isMultiRowsInsertSupported() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
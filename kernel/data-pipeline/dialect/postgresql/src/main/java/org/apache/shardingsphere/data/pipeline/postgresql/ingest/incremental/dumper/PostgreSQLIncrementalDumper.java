@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.ParallelWALEventDecoder;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.TestDecodingPlugin;
@@ -51,6 +52,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -61,6 +63,8 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class PostgreSQLIncrementalDumper extends AbstractPipelineLifecycleRunnable implements IncrementalDumper {
     
+    private static final int DECODE_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    
     private final IncrementalDumperContext dumperContext;
     
     private final AtomicReference<WALPosition> walPosition;
@@ -106,7 +110,6 @@ public final class PostgreSQLIncrementalDumper extends AbstractPipelineLifecycle
         }
     }
     
-    @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
         try (
                 Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
@@ -114,21 +117,45 @@ public final class PostgreSQLIncrementalDumper extends AbstractPipelineLifecycle
                         connection, PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId()), walPosition.get().getLogSequenceNumber())) {
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
             DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
+            try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPlugin, DECODE_PARALLELISM, dumperContext.getJobId() + "-wal-decode-%d")) {
+                dump(stream, decoder);
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void dump(final PGReplicationStream stream, final ParallelWALEventDecoder decoder) throws SQLException {
+        try {
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
-                    Thread.sleep(10L);
+                    Optional<AbstractWALEvent> event = decoder.take();
+                    if (event.isPresent()) {
+                        processEvent(event.get());
+                    } else {
+                        Thread.sleep(10L);
+                    }
                     continue;
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
+                decoder.submit(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                for (Optional<AbstractWALEvent> event = decoder.poll(); event.isPresent(); event = decoder.poll()) {
+                    processEvent(event.get());
                 }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
             }
+        } finally {
+            for (Optional<AbstractWALEvent> event = decoder.take(); event.isPresent(); event = decoder.take()) {
+                processEvent(event.get());
+            }
+        }
+    }
+    
+    private void processEvent(final AbstractWALEvent event) {
+        if (decodeWithTX) {
+            processEventWithTX(event);
+        } else {
+            processEventIgnoreTX(event);
         }
+        walPosition.set(new WALPosition(event.getLogSequenceNumber()));
     }
     
     private void processEventWithTX(final AbstractWALEvent event) {
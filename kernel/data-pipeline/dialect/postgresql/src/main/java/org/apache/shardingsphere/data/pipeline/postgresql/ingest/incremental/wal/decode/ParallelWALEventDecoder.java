@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel WAL event decoder.
+ *
+ * <p>Messages are decoded by worker threads, decoded events are polled in the order their messages were received.</p>
+ */
+@HighFrequencyInvocation
+public final class ParallelWALEventDecoder implements AutoCloseable {
+    
+    private static final int MAX_DECODING_COUNT_PER_THREAD = 64;
+    
+    private final DecodingPlugin decodingPlugin;
+    
+    private final int maxDecodingCount;
+    
+    private final ExecutorService executor;
+    
+    private final Queue<Future<AbstractWALEvent>> decodingEvents = new LinkedList<>();
+    
+    public ParallelWALEventDecoder(final DecodingPlugin decodingPlugin, final int parallelism, final String threadNameFormat) {
+        this.decodingPlugin = decodingPlugin;
+        maxDecodingCount = parallelism * MAX_DECODING_COUNT_PER_THREAD;
+        executor = Executors.newFixedThreadPool(parallelism, ExecutorThreadFactoryBuilder.build(threadNameFormat));
+    }
+    
+    /**
+     * Submit message to decode.
+     *
+     * @param data of logical replication
+     * @param logSequenceNumber log sequence number
+     */
+    public void submit(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        decodingEvents.add(executor.submit(() -> decodingPlugin.decode(data, logSequenceNumber)));
+    }
+    
+    /**
+     * Poll next decoded event.
+     *
+     * <p>Wait for the next event only if too many messages are decoding.</p>
+     *
+     * @return next decoded event, empty if next event is not decoded yet
+     */
+    public Optional<AbstractWALEvent> poll() {
+        Future<AbstractWALEvent> next = decodingEvents.peek();
+        if (null == next || !next.isDone() && decodingEvents.size() < maxDecodingCount) {
+            return Optional.empty();
+        }
+        return Optional.of(getDecodedEvent(decodingEvents.poll()));
+    }
+    
+    /**
+     * Take next decoded event, wait for decoding if necessary.
+     *
+     * @return next decoded event, empty if there is no decoding message
+     */
+    public Optional<AbstractWALEvent> take() {
+        return decodingEvents.isEmpty() ? Optional.empty() : Optional.of(getDecodedEvent(decodingEvents.poll()));
+    }
+    
+    private AbstractWALEvent getDecodedEvent(final Future<AbstractWALEvent> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancelDecodingEvents();
+            throw new IngestException(ex);
+        } catch (final ExecutionException ex) {
+            // Events after the broken one must not be consumed, or the WAL position would skip it.
+            cancelDecodingEvents();
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new IngestException(ex.getCause());
+        }
+    }
+    
+    private void cancelDecodingEvents() {
+        for (Future<AbstractWALEvent> each : decodingEvents) {
+            each.cancel(true);
+        }
+        decodingEvents.clear();
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
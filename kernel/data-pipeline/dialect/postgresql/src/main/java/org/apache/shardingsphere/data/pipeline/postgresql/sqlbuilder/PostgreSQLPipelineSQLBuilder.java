@@ -62,6 +62,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return Optional.of(result.toString());
     }
     
+    @Override
+    public boolean isMultiRowsInsertSupported() {
+        return true;
+    }
+    
     @Override
     public String buildCheckEmptyTableSQL(final String qualifiedTableName) {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.PlaceholderEvent;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelWALEventDecoderTest {
+    
+    private final BaseLogSequenceNumber firstLogSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L));
+    
+    private final BaseLogSequenceNumber secondLogSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(101L));
+    
+    @Test
+    void assertTakeInReceivingOrder() {
+        CountDownLatch firstDecodingLatch = new CountDownLatch(1);
+        DecodingPlugin decodingPlugin = (data, logSequenceNumber) -> {
+            if ("first".equals(StandardCharsets.UTF_8.decode(data).toString())) {
+                await(firstDecodingLatch);
+            }
+            return createEvent(logSequenceNumber);
+        };
+        try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPlugin, 2, "test-wal-decode-%d")) {
+            decoder.submit(ByteBuffer.wrap("first".getBytes(StandardCharsets.UTF_8)), firstLogSequenceNumber);
+            decoder.submit(ByteBuffer.wrap("second".getBytes(StandardCharsets.UTF_8)), secondLogSequenceNumber);
+            assertFalse(decoder.poll().isPresent());
+            firstDecodingLatch.countDown();
+            assertThat(decoder.take().map(AbstractWALEvent::getLogSequenceNumber).orElse(null), is(firstLogSequenceNumber));
+            assertThat(decoder.take().map(AbstractWALEvent::getLogSequenceNumber).orElse(null), is(secondLogSequenceNumber));
+            assertFalse(decoder.take().isPresent());
+        }
+    }
+    
+    @Test
+    void assertTakeWithDecodingFailure() {
+        DecodingPlugin decodingPlugin = (data, logSequenceNumber) -> {
+            if (firstLogSequenceNumber == logSequenceNumber) {
+                throw new DecodingException(new SQLException("Bad timestamp"));
+            }
+            return createEvent(logSequenceNumber);
+        };
+        try (ParallelWALEventDecoder decoder = new ParallelWALEventDecoder(decodingPlugin, 2, "test-wal-decode-%d")) {
+            decoder.submit(ByteBuffer.allocate(0), firstLogSequenceNumber);
+            decoder.submit(ByteBuffer.allocate(0), secondLogSequenceNumber);
+            assertThrows(DecodingException.class, decoder::take);
+            assertFalse(decoder.take().isPresent());
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void await(final CountDownLatch latch) {
+        latch.await();
+    }
+    
+    private AbstractWALEvent createEvent(final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result = new PlaceholderEvent();
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+}
@@ -69,6 +69,11 @@ class PostgreSQLPipelineSQLBuilderTest {
         return result;
     }
     
+    @Test
+    void assertIsMultiRowsInsertSupported() {
+        assertTrue(sqlBuilder.isMultiRowsInsertSupported());
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -53,7 +53,9 @@ public final class TransmissionProcessConfigurationSegmentConverter {
     }
     
     private static PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
-        return null == writeSegment ? null : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()));
+        return null == writeSegment
+                ? null
+                : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()), writeSegment.getPartitionedApply());
     }
     
     private static AlgorithmConfiguration convertToAlgorithm(final AlgorithmSegment segment) {
@@ -123,6 +123,10 @@ STREAM_CHANNEL
     : S T R E A M UL_ C H A N N E L
     ;
 
+PARTITIONED_APPLY
+    : P A R T I T I O N E D UL_ A P P L Y
+    ;
+
 IF
     : I F
     ;
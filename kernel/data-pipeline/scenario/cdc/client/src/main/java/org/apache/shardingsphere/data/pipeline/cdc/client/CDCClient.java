@@ -80,6 +80,9 @@ public final class CDCClient implements AutoCloseable {
         if (parameter.getPort() <= 0) {
             throw new IllegalArgumentException("The port must be greater than 0");
         }
+        if (parameter.getAckWindowSize() <= 0) {
+            throw new IllegalArgumentException("The ack window size must be greater than 0");
+        }
     }
     
     /**
@@ -105,7 +108,7 @@ public final class CDCClient implements AutoCloseable {
                         channel.pipeline().addLast(new ProtobufDecoder(CDCResponse.getDefaultInstance()));
                         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         channel.pipeline().addLast(new ProtobufEncoder());
-                        channel.pipeline().addLast(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler));
+                        channel.pipeline().addLast(new CDCRequestHandler(dataConsumer, exceptionHandler, errorResultHandler, config.getAckWindowSize()));
                     }
                 });
         channel = bootstrap.connect(config.getAddress(), config.getPort()).sync().channel();
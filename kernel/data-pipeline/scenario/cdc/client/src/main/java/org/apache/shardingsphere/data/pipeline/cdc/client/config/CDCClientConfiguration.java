@@ -22,6 +22,8 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * CDC client configuration.
+ *
+ * <p>Ack window size is the count of received data record results which are acked together, ack is sent after a short delay if the window is not full.</p>
  */
 @RequiredArgsConstructor
 @Getter
@@ -32,4 +34,10 @@ public final class CDCClientConfiguration {
     private final int port;
     
     private final int timeoutMills;
+    
+    private final int ackWindowSize;
+    
+    public CDCClientConfiguration(final String address, final int port, final int timeoutMills) {
+        this(address, port, timeoutMills, 1);
+    }
 }
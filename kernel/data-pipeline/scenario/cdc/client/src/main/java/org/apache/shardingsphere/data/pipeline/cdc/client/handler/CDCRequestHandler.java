@@ -35,8 +35,12 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordR
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -46,12 +50,22 @@ import java.util.function.Consumer;
 @Slf4j
 public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
+    private static final long ACK_DELAY_MILLIS = 100L;
+    
     private final Consumer<List<Record>> consumer;
     
     private final ExceptionHandler exceptionHandler;
     
     private final ServerErrorResultHandler errorResultHandler;
     
+    private final int ackWindowSize;
+    
+    private final Map<String, String> unackedIds = new LinkedHashMap<>();
+    
+    private int unackedCount;
+    
+    private ScheduledFuture<?> delayedAckFuture;
+    
     @Override
     public void channelRegistered(final ChannelHandlerContext ctx) {
         ClientConnectionContext context = new ClientConnectionContext();
@@ -61,6 +75,9 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     @Override
     public void channelInactive(final ChannelHandlerContext ctx) {
+        if (null != delayedAckFuture) {
+            delayedAckFuture.cancel(false);
+        }
         ctx.channel().attr(ClientConnectionContext.CONTEXT_KEY).setIfAbsent(null);
         log.info("Channel inactive, stop CDC client");
         ctx.fireChannelInactive();
@@ -110,7 +127,30 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
         consumer.accept(result.getRecordList());
-        ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
+        String ackId = result.getAckId();
+        // Ack is cumulative per importer, ack id is prefixed with importer id.
+        unackedIds.put(ackId.substring(0, Math.max(ackId.indexOf('_'), 0)), ackId);
+        if (++unackedCount >= ackWindowSize) {
+            ack(ctx);
+        } else if (null == delayedAckFuture) {
+            delayedAckFuture = ctx.executor().schedule(() -> ack(ctx), ACK_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void ack(final ChannelHandlerContext ctx) {
+        if (null != delayedAckFuture) {
+            delayedAckFuture.cancel(false);
+            delayedAckFuture = null;
+        }
+        if (unackedIds.isEmpty()) {
+            return;
+        }
+        for (String each : unackedIds.values()) {
+            ctx.channel().write(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(each).build()).build());
+        }
+        ctx.channel().flush();
+        unackedIds.clear();
+        unackedCount = 0;
     }
     
     @Override
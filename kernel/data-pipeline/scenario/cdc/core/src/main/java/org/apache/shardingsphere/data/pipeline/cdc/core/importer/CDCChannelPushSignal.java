@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * CDC channel push signal.
+ *
+ * <p>It's signaled by channels on push, and awaited by importer when there are no records to import.</p>
+ */
+public final class CDCChannelPushSignal {
+    
+    private final AtomicBoolean signaled = new AtomicBoolean();
+    
+    private final Lock lock = new ReentrantLock();
+    
+    private final Condition pushed = lock.newCondition();
+    
+    /**
+     * Signal that records are pushed.
+     */
+    public void signal() {
+        if (!signaled.compareAndSet(false, true)) {
+            return;
+        }
+        lock.lock();
+        try {
+            pushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Await records pushed after the last await.
+     *
+     * @param timeoutMillis timeout millis
+     * @throws InterruptedException interrupted exception
+     */
+    public void await(final long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            if (!signaled.getAndSet(false)) {
+                pushed.await(timeoutMillis, TimeUnit.MILLISECONDS);
+                signaled.set(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -41,9 +42,13 @@ import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgori
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -69,9 +74,14 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
+    private final CDCChannelPushSignal pushSignal;
+    
     private final PriorityQueue<CSNRecords> csnRecordsQueue = new PriorityQueue<>(new CSNRecordsComparator());
     
-    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000L).expireAfterAccess(5L, TimeUnit.MINUTES).build();
+    private final Queue<String> pendingAckIds = new ConcurrentLinkedQueue<>();
+    
+    private final Cache<String, List<Pair<CDCChannelProgressPair, CDCAckPosition>>> ackCache = Caffeine.newBuilder().maximumSize(10000L).expireAfterAccess(5L, TimeUnit.MINUTES)
+            .executor(Runnable::run).removalListener(this::onAckCacheRemoval).build();
     
     @Override
     protected void runBlocking() {
@@ -98,10 +108,14 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
         List<CSNRecords> csnRecordsList = getCsnRecordsList();
         if (csnRecordsList.isEmpty()) {
-            TimeUnit.MILLISECONDS.sleep(timeoutMillis);
+            if (null == pushSignal) {
+                TimeUnit.MILLISECONDS.sleep(timeoutMillis);
+            } else {
+                pushSignal.await(timeoutMillis);
+            }
             return;
         }
-        // TODO Combine small transactions into a large transaction, to improve transformation performance.
+        combineReadyTransactions(csnRecordsList);
         String ackId = CDCAckId.build(importerId).marshal();
         if (1 == csnRecordsList.size()) {
             processCSNRecords(csnRecordsList.get(0), ackId);
@@ -110,6 +124,19 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         }
     }
     
+    private void combineReadyTransactions(final List<CSNRecords> csnRecordsList) {
+        long startMillis = System.currentTimeMillis();
+        int dataRecordsCount = csnRecordsList.stream().mapToInt(each -> getDataRecordsCount(each.getRecords())).sum();
+        while (dataRecordsCount < batchSize && System.currentTimeMillis() - startMillis < timeoutMillis) {
+            List<CSNRecords> nextCsnRecordsList = getCsnRecordsList();
+            if (nextCsnRecordsList.isEmpty()) {
+                return;
+            }
+            csnRecordsList.addAll(nextCsnRecordsList);
+            dataRecordsCount += nextCsnRecordsList.stream().mapToInt(each -> getDataRecordsCount(each.getRecords())).sum();
+        }
+    }
+    
     private List<CSNRecords> getCsnRecordsList() {
         List<CSNRecords> result = new LinkedList<>();
         CSNRecords firstRecords = null;
@@ -120,6 +147,9 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
                 continue;
             }
             if (null == firstRecords) {
+                if (!isWatermarkReached(csnRecords)) {
+                    break;
+                }
                 csnRecords = csnRecordsQueue.poll();
                 firstRecords = csnRecords;
                 result.add(csnRecords);
@@ -131,8 +161,22 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
         return result;
     }
     
+    private boolean isWatermarkReached(final CSNRecords csnRecords) {
+        long currentMillis = System.currentTimeMillis();
+        for (CDCChannelProgressPair each : channelProgressPairs) {
+            if (each == csnRecords.getChannelProgressPair() || !(each.getChannel() instanceof CDCWatermarkPipelineChannel)) {
+                continue;
+            }
+            CDCWatermarkPipelineChannel channel = (CDCWatermarkPipelineChannel) each.getChannel();
+            // Channel without data pushed in timeout is idle, it should not hold back other channels.
+            if (channel.getWatermark() < csnRecords.getCsn() && currentMillis - channel.getLastDataPushMillis() < timeoutMillis) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     // TODO openGauss CSN should be incremented for every transaction. Currently, CSN might be duplicated in transactions.
-    // TODO Use channels watermark depth to improve performance.
     private void prepareTransactionRecords() {
         if (csnRecordsQueue.isEmpty()) {
             prepareWhenQueueIsEmpty();
@@ -191,17 +235,35 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
     
     private void processCSNRecords(final CSNRecords csnRecords, final String ackId) {
         List<Record> records = csnRecords.getRecords();
-        ackCache.put(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
+        putAckCache(ackId, Collections.singletonList(Pair.of(csnRecords.getChannelProgressPair(), new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
         sink.write(ackId, filterDataRecords(records));
     }
     
     private void processCSNRecordsList(final List<CSNRecords> csnRecordsList, final String ackId) {
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue = csnRecordsList.stream().map(each -> Pair.of(each.getChannelProgressPair(),
-                new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1), getDataRecordsCount(each.getRecords())))).collect(Collectors.toList());
-        ackCache.put(ackId, ackValue);
-        Collection<Record> records = new ArrayList<>(ackValue.stream().mapToInt(each -> each.getRight().getDataRecordCount()).sum());
+        Map<CDCChannelProgressPair, CDCAckPosition> ackPositions = new LinkedHashMap<>(channelProgressPairs.size(), 1F);
+        int dataRecordsCount = 0;
+        for (CSNRecords each : csnRecordsList) {
+            int count = getDataRecordsCount(each.getRecords());
+            dataRecordsCount += count;
+            CDCAckPosition previousAckPosition = ackPositions.get(each.getChannelProgressPair());
+            ackPositions.put(each.getChannelProgressPair(), new CDCAckPosition(each.getRecords().get(each.getRecords().size() - 1),
+                    null == previousAckPosition ? count : previousAckPosition.getDataRecordCount() + count));
+        }
+        putAckCache(ackId, ackPositions.entrySet().stream().map(each -> Pair.of(each.getKey(), each.getValue())).collect(Collectors.toList()));
+        Collection<Record> records = new ArrayList<>(dataRecordsCount);
         csnRecordsList.forEach(each -> records.addAll(filterDataRecords(each.getRecords())));
-        sink.write(ackId, filterDataRecords(records));
+        sink.write(ackId, records);
+    }
+    
+    private void putAckCache(final String ackId, final List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue) {
+        pendingAckIds.add(ackId);
+        ackCache.put(ackId, ackValue);
+    }
+    
+    private void onAckCacheRemoval(final String ackId, final List<Pair<CDCChannelProgressPair, CDCAckPosition>> ackValue, final RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            pendingAckIds.remove(ackId);
+        }
     }
     
     private List<Record> filterDataRecords(final Collection<Record> records) {
@@ -233,21 +295,37 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
             rateLimitAlgorithm.intercept(PipelineSQLOperationType.INSERT, 1);
         }
         String ackId = CDCAckId.build(importerId).marshal();
-        ackCache.put(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
+        putAckCache(ackId, Collections.singletonList(Pair.of(channelProgressPair, new CDCAckPosition(records.get(records.size() - 1), getDataRecordsCount(records)))));
         sink.write(ackId, records);
     }
     
     /**
      * Ack.
      *
+     * <p>Ack is cumulative, all records sent before the acked ones are acked too.</p>
+     *
      * @param ackId ack id
      */
-    public void ack(final String ackId) {
-        List<Pair<CDCChannelProgressPair, CDCAckPosition>> channelPositionPairList = ackCache.getIfPresent(ackId);
-        if (null == channelPositionPairList) {
+    public synchronized void ack(final String ackId) {
+        if (null == ackCache.getIfPresent(ackId)) {
             log.warn("Could not find cached ack info, ack id: {}", ackId);
             return;
         }
+        String pendingAckId;
+        do {
+            pendingAckId = pendingAckIds.poll();
+            if (null == pendingAckId) {
+                return;
+            }
+            List<Pair<CDCChannelProgressPair, CDCAckPosition>> channelPositionPairList = ackCache.getIfPresent(pendingAckId);
+            if (null != channelPositionPairList) {
+                ack(channelPositionPairList);
+            }
+            ackCache.invalidate(pendingAckId);
+        } while (!ackId.equals(pendingAckId));
+    }
+    
+    private void ack(final List<Pair<CDCChannelProgressPair, CDCAckPosition>> channelPositionPairList) {
         for (Pair<CDCChannelProgressPair, CDCAckPosition> each : channelPositionPairList) {
             CDCAckPosition ackPosition = each.getRight();
             Record lastRecord = ackPosition.getLastRecord();
@@ -257,7 +335,6 @@ public final class CDCImporter extends AbstractPipelineLifecycleRunnable impleme
             }
             each.getLeft().getJobProgressListener().onProgressUpdated(new PipelineJobUpdateProgress(ackPosition.getDataRecordCount()));
         }
-        ackCache.invalidate(ackId);
     }
     
     @Override
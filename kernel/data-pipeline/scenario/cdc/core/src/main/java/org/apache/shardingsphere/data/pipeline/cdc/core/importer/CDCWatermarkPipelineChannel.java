@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.List;
+
+/**
+ * CDC watermark pipeline channel.
+ *
+ * <p>Watermark is the CSN of the last pushed data record, records pushed later are not expected to have smaller CSN.</p>
+ */
+@RequiredArgsConstructor
+public final class CDCWatermarkPipelineChannel implements PipelineChannel {
+    
+    private final PipelineChannel delegate;
+    
+    private final CDCChannelPushSignal pushSignal;
+    
+    @Getter
+    private volatile long watermark = -1L;
+    
+    @Getter
+    private volatile long lastDataPushMillis;
+    
+    @Override
+    public void push(final List<Record> records) {
+        for (int i = records.size() - 1; i >= 0; i--) {
+            Record each = records.get(i);
+            if (each instanceof DataRecord && null != ((DataRecord) each).getCsn()) {
+                watermark = Math.max(watermark, ((DataRecord) each).getCsn());
+                lastDataPushMillis = System.currentTimeMillis();
+                break;
+            }
+        }
+        delegate.push(records);
+        pushSignal.signal();
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        return delegate.fetch(batchSize, timeoutMillis);
+    }
+    
+    @Override
+    public List<Record> peek() {
+        return delegate.peek();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        return delegate.poll();
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        delegate.ack(records);
+    }
+    
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
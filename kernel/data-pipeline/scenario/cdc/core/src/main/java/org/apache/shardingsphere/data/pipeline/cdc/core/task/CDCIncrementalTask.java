@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -36,7 +37,7 @@ import java.util.concurrent.CompletableFuture;
  * CDC incremental task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"incrementalExecuteEngine", "dumper", "importer", "taskProgress"})
+@ToString(exclude = {"incrementalExecuteEngine", "channel", "dumper", "importer", "taskProgress"})
 public final class CDCIncrementalTask implements PipelineTask {
     
     @Getter
@@ -44,6 +45,8 @@ public final class CDCIncrementalTask implements PipelineTask {
     
     private final PipelineExecuteEngine incrementalExecuteEngine;
     
+    private final PipelineChannel channel;
+    
     private final Dumper dumper;
     
     @Nullable
@@ -69,5 +72,6 @@ public final class CDCIncrementalTask implements PipelineTask {
         if (null != importer) {
             importer.stop();
         }
+        channel.close();
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -40,7 +41,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * CDC inventory task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"inventoryDumperExecuteEngine", "inventoryImporterExecuteEngine", "dumper", "importer"})
+@ToString(exclude = {"inventoryDumperExecuteEngine", "inventoryImporterExecuteEngine", "channel", "dumper", "importer"})
 public final class CDCInventoryTask implements PipelineTask {
     
     @Getter
@@ -50,6 +51,8 @@ public final class CDCInventoryTask implements PipelineTask {
     
     private final PipelineExecuteEngine inventoryImporterExecuteEngine;
     
+    private final PipelineChannel channel;
+    
     private final Dumper dumper;
     
     @Nullable
@@ -76,6 +79,7 @@ public final class CDCInventoryTask implements PipelineTask {
         if (null != importer) {
             importer.stop();
         }
+        channel.close();
     }
     
     @Override
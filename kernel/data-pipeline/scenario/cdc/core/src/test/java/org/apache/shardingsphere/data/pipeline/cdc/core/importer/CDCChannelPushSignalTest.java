@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class CDCChannelPushSignalTest {
+    
+    @Test
+    void assertAwaitSignaledBeforeAwait() throws InterruptedException {
+        CDCChannelPushSignal pushSignal = new CDCChannelPushSignal();
+        pushSignal.signal();
+        long startMillis = System.currentTimeMillis();
+        pushSignal.await(5000L);
+        assertThat(System.currentTimeMillis() - startMillis, lessThan(5000L));
+    }
+    
+    @Test
+    void assertAwaitConsumesSignal() throws InterruptedException {
+        CDCChannelPushSignal pushSignal = new CDCChannelPushSignal();
+        pushSignal.signal();
+        pushSignal.await(5000L);
+        long startMillis = System.currentTimeMillis();
+        pushSignal.await(100L);
+        assertThat(System.currentTimeMillis() - startMillis, greaterThanOrEqualTo(100L));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CDCImporterTest {
+    
+    private final PipelineChannel channel = mock(PipelineChannel.class);
+    
+    private final PipelineSink sink = mock(PipelineSink.class);
+    
+    private final DataRecord firstRecord = createDataRecord(1L);
+    
+    private final DataRecord secondRecord = createDataRecord(2L);
+    
+    @Test
+    void assertWriteCombinedTransactions() {
+        when(channel.poll()).thenReturn(Collections.singletonList(firstRecord), Collections.singletonList(secondRecord), Collections.emptyList());
+        CDCImporter importer = createImporter(10, 1);
+        importer.run();
+        ArgumentCaptor<Collection<Record>> recordsCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink).write(anyString(), recordsCaptor.capture());
+        List<Record> actual = new ArrayList<>(recordsCaptor.getValue());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance(firstRecord));
+        assertThat(actual.get(1), sameInstance(secondRecord));
+    }
+    
+    @Test
+    void assertAckCumulatively() {
+        when(channel.poll()).thenReturn(Collections.singletonList(firstRecord), Collections.singletonList(secondRecord), Collections.emptyList());
+        CDCImporter importer = createImporter(1, 2);
+        importer.run();
+        ArgumentCaptor<String> ackIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(sink, times(2)).write(ackIdCaptor.capture(), any());
+        importer.ack(ackIdCaptor.getAllValues().get(1));
+        importer.ack(ackIdCaptor.getAllValues().get(0));
+        ArgumentCaptor<List<Record>> ackedRecordsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(channel, times(2)).ack(ackedRecordsCaptor.capture());
+        assertThat(ackedRecordsCaptor.getAllValues().get(0).get(0), sameInstance(firstRecord));
+        assertThat(ackedRecordsCaptor.getAllValues().get(1).get(0), sameInstance(secondRecord));
+    }
+    
+    @Test
+    void assertPrunePendingAckIdsWithAckCacheEviction() throws ReflectiveOperationException {
+        when(channel.poll()).thenReturn(Collections.singletonList(firstRecord));
+        CDCImporter importer = createImporter(1, 10001);
+        importer.run();
+        Queue<?> actual = (Queue<?>) Plugins.getMemberAccessor().get(CDCImporter.class.getDeclaredField("pendingAckIds"), importer);
+        assertThat(actual.size(), is(10000));
+    }
+    
+    private CDCImporter createImporter(final int batchSize, final int stopAfterWriteCount) {
+        CDCImporter result = new CDCImporter(Collections.singletonList(new CDCChannelProgressPair(channel, mock(PipelineJobProgressListener.class))), batchSize, 100L, sink, true, null, new CDCChannelPushSignal());
+        AtomicInteger writeCount = new AtomicInteger();
+        when(sink.write(anyString(), any())).thenAnswer(invocation -> {
+            if (stopAfterWriteCount == writeCount.incrementAndGet()) {
+                result.stop();
+            }
+            return null;
+        });
+        return result;
+    }
+    
+    private DataRecord createDataRecord(final long csn) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        result.setCsn(csn);
+        return result;
+    }
+}
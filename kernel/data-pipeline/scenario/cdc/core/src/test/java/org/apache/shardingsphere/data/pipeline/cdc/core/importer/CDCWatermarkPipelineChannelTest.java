@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CDCWatermarkPipelineChannelTest {
+    
+    @Test
+    void assertPush() {
+        PipelineChannel delegate = mock(PipelineChannel.class);
+        CDCChannelPushSignal pushSignal = mock(CDCChannelPushSignal.class);
+        CDCWatermarkPipelineChannel channel = new CDCWatermarkPipelineChannel(delegate, pushSignal);
+        List<Record> records = Arrays.asList(createDataRecord(3L), new PlaceholderRecord(new IngestPlaceholderPosition()));
+        channel.push(records);
+        verify(delegate).push(records);
+        verify(pushSignal).signal();
+        assertThat(channel.getWatermark(), is(3L));
+    }
+    
+    @Test
+    void assertPushWithoutDataRecord() {
+        CDCWatermarkPipelineChannel channel = new CDCWatermarkPipelineChannel(mock(PipelineChannel.class), mock(CDCChannelPushSignal.class));
+        channel.push(Collections.singletonList(createDataRecord(5L)));
+        channel.push(Collections.singletonList(new PlaceholderRecord(new IngestPlaceholderPosition())));
+        assertThat(channel.getWatermark(), is(5L));
+    }
+    
+    private DataRecord createDataRecord(final long csn) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        result.setCsn(csn);
+        return result;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.ConsistencyChec
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
 import org.apache.shardingsphere.data.pipeline.scenario.consistencycheck.config.ConsistencyCheckJobConfiguration;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -61,6 +62,8 @@ public final class ConsistencyCheckJobItemContext implements PipelineJobItemCont
             progressContext.getCheckedRecordsCount().set(Optional.ofNullable(jobItemProgress.getCheckedRecordsCount()).orElse(0L));
             Optional.ofNullable(jobItemProgress.getSourceTableCheckPositions()).ifPresent(progressContext.getSourceTableCheckPositions()::putAll);
             Optional.ofNullable(jobItemProgress.getTargetTableCheckPositions()).ifPresent(progressContext.getTargetTableCheckPositions()::putAll);
+            Optional.ofNullable(jobItemProgress.getCheckedTableNames()).filter(optional -> !optional.isEmpty())
+                    .ifPresent(optional -> progressContext.getCheckedTableNames().addAll(Arrays.asList(optional.split(","))));
         }
         processContext = new ConsistencyCheckProcessContext(jobId);
     }
@@ -43,7 +43,7 @@ class ConsistencyCheckJobItemContextTest {
     void assertConstructWithoutTableCheckPositions() {
         Map<String, Object> sourceTableCheckPositions = Collections.emptyMap();
         Map<String, Object> targetTableCheckPositions = Collections.emptyMap();
-        ConsistencyCheckJobItemProgress jobItemProgress = new ConsistencyCheckJobItemProgress(TABLE, null, 0L, 10L, null, null, sourceTableCheckPositions, targetTableCheckPositions, "H2");
+        ConsistencyCheckJobItemProgress jobItemProgress = new ConsistencyCheckJobItemProgress(TABLE, null, null, 0L, 10L, null, null, sourceTableCheckPositions, targetTableCheckPositions, "H2");
         ConsistencyCheckJobItemContext actual = new ConsistencyCheckJobItemContext(new ConsistencyCheckJobConfiguration("", "", "DATA_MATCH", null, databaseType),
                 0, JobStatus.RUNNING, jobItemProgress);
         verifyProgressContext(actual.getProgressContext(), 0, sourceTableCheckPositions, targetTableCheckPositions);
@@ -53,7 +53,7 @@ class ConsistencyCheckJobItemContextTest {
     void assertConstructWithTableCheckPositions() {
         Map<String, Object> sourceTableCheckPositions = ImmutableMap.of(TABLE, 6);
         Map<String, Object> targetTableCheckPositions = ImmutableMap.of(TABLE, 5);
-        ConsistencyCheckJobItemProgress jobItemProgress = new ConsistencyCheckJobItemProgress(TABLE, null, 0L, 10L, null, null, sourceTableCheckPositions, targetTableCheckPositions, "H2");
+        ConsistencyCheckJobItemProgress jobItemProgress = new ConsistencyCheckJobItemProgress(TABLE, null, null, 0L, 10L, null, null, sourceTableCheckPositions, targetTableCheckPositions, "H2");
         ConsistencyCheckJobItemContext actual = new ConsistencyCheckJobItemContext(new ConsistencyCheckJobConfiguration("", "", "DATA_MATCH", null, databaseType),
                 0, JobStatus.RUNNING, jobItemProgress);
         verifyProgressContext(actual.getProgressContext(), 1, sourceTableCheckPositions, targetTableCheckPositions);
@@ -61,6 +61,16 @@ class ConsistencyCheckJobItemContextTest {
         assertThat(actual.getProgressContext().getTargetTableCheckPositions().get(TABLE), is(5));
     }
     
+    @Test
+    void assertConstructWithCheckedTableNames() {
+        ConsistencyCheckJobItemProgress jobItemProgress = new ConsistencyCheckJobItemProgress(
+                "t_order,t_order_item", null, "t_order,t_order_item", 0L, 10L, null, null, Collections.emptyMap(), Collections.emptyMap(), "H2");
+        ConsistencyCheckJobItemContext actual = new ConsistencyCheckJobItemContext(new ConsistencyCheckJobConfiguration("", "", "DATA_MATCH", null, databaseType),
+                0, JobStatus.RUNNING, jobItemProgress);
+        assertThat(actual.getProgressContext().getCheckedTableNames().size(), is(2));
+        assertThat(actual.toProgress().getCheckedTableNames(), is("t_order,t_order_item"));
+    }
+    
     private void verifyProgressContext(final ConsistencyCheckJobItemProgressContext progressContext, final int expectedSize,
                                        final Map<String, Object> sourceTableCheckPositions, final Map<String, Object> targetTableCheckPositions) {
         assertThat(progressContext.getSourceTableCheckPositions().size(), is(expectedSize));
@@ -17,6 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.scenario.migration.check.consistency;
 
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.PipelineDataConsistencyChecker;
@@ -26,11 +31,11 @@ import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.Table
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryCheckParameter;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.TableInventoryChecker;
 import org.apache.shardingsphere.data.pipeline.core.context.TransmissionProcessContext;
-import org.apache.shardingsphere.data.pipeline.core.datanode.JobDataNodeEntry;
-import org.apache.shardingsphere.data.pipeline.core.datanode.JobDataNodeLine;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.TransmissionJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.job.service.TransmissionJobManager;
@@ -40,23 +45,37 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipe
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.MigrationJobType;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationJobConfiguration;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 
 /**
  * Data consistency checker for migration job.
@@ -64,13 +83,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class MigrationDataConsistencyChecker implements PipelineDataConsistencyChecker {
     
+    private static final String TABLE_CONCURRENCY_KEY = "table-concurrency";
+    
+    private static final String DATA_SOURCE_CONCURRENCY_KEY = "data-source-concurrency";
+    
     private final MigrationJobConfiguration jobConfig;
     
     private final JobRateLimitAlgorithm readRateLimitAlgorithm;
     
     private final ConsistencyCheckJobItemProgressContext progressContext;
     
-    private final AtomicReference<TableInventoryChecker> currentTableInventoryChecker = new AtomicReference<>();
+    private final Set<TableInventoryChecker> runningTableInventoryCheckers = ConcurrentHashMap.newKeySet();
     
     private final AtomicBoolean canceling = new AtomicBoolean(false);
     
@@ -83,22 +106,25 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
     
     @Override
     public Map<String, TableDataConsistencyCheckResult> check(final String algorithmType, final Properties algorithmProps) {
-        List<String> sourceTableNames = new LinkedList<>();
-        jobConfig.getJobShardingDataNodes().forEach(each -> each.getEntries().forEach(entry -> entry.getDataNodes().forEach(dataNode -> sourceTableNames.add(dataNode.format()))));
+        List<CheckingTable> checkingTables = new LinkedList<>();
+        jobConfig.getJobShardingDataNodes().forEach(each -> each.getEntries().forEach(entry -> entry.getDataNodes().forEach(dataNode -> checkingTables.add(new CheckingTable(entry.getLogicTableName(), dataNode)))));
         progressContext.setRecordsCount(getRecordsCount());
-        progressContext.getTableNames().addAll(sourceTableNames);
+        checkingTables.forEach(each -> progressContext.getTableNames().add(each.getDataNode().format()));
         progressContext.onProgressUpdated(new PipelineJobUpdateProgress(0));
-        Map<QualifiedTable, TableDataConsistencyCheckResult> result = new LinkedHashMap<>();
+        Properties props = null == algorithmProps ? new Properties() : algorithmProps;
+        int tableConcurrency = getConcurrency(props, TABLE_CONCURRENCY_KEY, 1);
+        int dataSourceConcurrency = getConcurrency(props, DATA_SOURCE_CONCURRENCY_KEY, tableConcurrency);
+        Map<QualifiedTable, TableDataConsistencyCheckResult> checkResults = new ConcurrentHashMap<>();
         try (
                 PipelineDataSourceManager dataSourceManager = new PipelineDataSourceManager();
                 TableDataConsistencyChecker tableChecker = TableDataConsistencyCheckerFactory.newInstance(algorithmType, algorithmProps)) {
-            for (JobDataNodeLine each : jobConfig.getJobShardingDataNodes()) {
-                if (checkTableInventoryDataUnmatchedAndBreak(each, tableChecker, result, dataSourceManager)) {
-                    return result.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
-                }
-            }
+            checkTables(getPrioritizedCheckingTables(checkingTables, tableConcurrency, dataSourceManager), tableChecker, checkResults, dataSourceManager, tableConcurrency, dataSourceConcurrency);
         }
-        return result.entrySet().stream().collect(Collectors.toMap(entry -> entry.getKey().toString(), Entry::getValue));
+        Map<String, TableDataConsistencyCheckResult> result = new LinkedHashMap<>(checkResults.size(), 1F);
+        for (CheckingTable each : checkingTables) {
+            Optional.ofNullable(checkResults.get(each.getSourceTable())).ifPresent(optional -> result.put(each.getSourceTable().toString(), optional));
+        }
+        return result;
     }
     
     private long getRecordsCount() {
@@ -106,26 +132,114 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         return jobProgress.values().stream().filter(Objects::nonNull).mapToLong(TransmissionJobItemProgress::getInventoryRecordsCount).sum();
     }
     
-    private boolean checkTableInventoryDataUnmatchedAndBreak(final JobDataNodeLine jobDataNodeLine, final TableDataConsistencyChecker tableChecker,
-                                                             final Map<QualifiedTable, TableDataConsistencyCheckResult> checkResultMap,
-                                                             final PipelineDataSourceManager dataSourceManager) {
-        for (JobDataNodeEntry entry : jobDataNodeLine.getEntries()) {
-            for (DataNode each : entry.getDataNodes()) {
-                TableDataConsistencyCheckResult checkResult = checkSingleTableInventoryData(entry.getLogicTableName(), each, tableChecker, dataSourceManager);
-                checkResultMap.put(new QualifiedTable(each.getSchemaName(), each.getTableName()), checkResult);
-                if (!checkResult.isMatched() && tableChecker.isBreakOnInventoryCheckNotMatched()) {
-                    log.info("Unmatched on table '{}', ignore left tables", each.format());
-                    return true;
+    private int getConcurrency(final Properties props, final String key, final int defaultValue) {
+        String text = props.getProperty(key);
+        if (Strings.isNullOrEmpty(text)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(text);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, text));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %d", key, result));
+        }
+        return result;
+    }
+    
+    private List<CheckingTable> getPrioritizedCheckingTables(final List<CheckingTable> checkingTables, final int tableConcurrency, final PipelineDataSourceManager dataSourceManager) {
+        if (1 == tableConcurrency) {
+            return checkingTables;
+        }
+        List<CheckingTable> result = new LinkedList<>(checkingTables);
+        result.forEach(each -> each.setEstimatedRecordsCount(getEstimatedRecordsCount(each.getDataNode(), dataSourceManager)));
+        result.sort(Comparator.comparingLong(CheckingTable::getEstimatedRecordsCount).reversed());
+        return result;
+    }
+    
+    private long getEstimatedRecordsCount(final DataNode dataNode, final PipelineDataSourceManager dataSourceManager) {
+        PipelineDataSource dataSource = dataSourceManager.getDataSource(jobConfig.getSources().get(dataNode.getDataSourceName()));
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<String> sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildEstimatedCountSQL(connection.getCatalog(), dataNode.getSchemaName(), dataNode.getTableName());
+            if (!sql.isPresent()) {
+                return 0L;
+            }
+            try (
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(sql.get())) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        } catch (final SQLException ex) {
+            log.warn("Get estimated records count of '{}' failed, check it with lowest priority.", dataNode.format(), ex);
+            return 0L;
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void checkTables(final List<CheckingTable> checkingTables, final TableDataConsistencyChecker tableChecker, final Map<QualifiedTable, TableDataConsistencyCheckResult> checkResults,
+                             final PipelineDataSourceManager dataSourceManager, final int tableConcurrency, final int dataSourceConcurrency) {
+        ExecutorService executor = Executors.newFixedThreadPool(tableConcurrency, ExecutorThreadFactoryBuilder.build(jobConfig.getJobId() + "-check-table-%d"));
+        CompletionService<CheckingTable> completionService = new ExecutorCompletionService<>(executor);
+        List<CheckingTable> pendingTables = new LinkedList<>(checkingTables);
+        Map<String, Integer> runningCountsOfDataSources = new HashMap<>();
+        int runningCount = 0;
+        boolean breaking = false;
+        try {
+            while (true) {
+                Iterator<CheckingTable> iterator = pendingTables.iterator();
+                while (!breaking && !canceling.get() && runningCount < tableConcurrency && iterator.hasNext()) {
+                    CheckingTable each = iterator.next();
+                    if (progressContext.getCheckedTableNames().contains(each.getDataNode().format())) {
+                        iterator.remove();
+                        checkResults.put(each.getSourceTable(), new TableDataConsistencyCheckResult(true));
+                        continue;
+                    }
+                    if (runningCountsOfDataSources.getOrDefault(each.getDataNode().getDataSourceName(), 0) >= dataSourceConcurrency) {
+                        continue;
+                    }
+                    iterator.remove();
+                    runningCountsOfDataSources.merge(each.getDataNode().getDataSourceName(), 1, Integer::sum);
+                    runningCount++;
+                    completionService.submit(() -> {
+                        checkResults.put(each.getSourceTable(), checkSingleTableInventoryData(each, tableChecker, dataSourceManager));
+                        return each;
+                    });
+                }
+                if (0 == runningCount) {
+                    break;
                 }
+                CheckingTable finishedTable = waitFuture(completionService.take());
+                runningCount--;
+                runningCountsOfDataSources.merge(finishedTable.getDataNode().getDataSourceName(), -1, Integer::sum);
+                if (!checkResults.get(finishedTable.getSourceTable()).isMatched() && tableChecker.isBreakOnInventoryCheckNotMatched()) {
+                    log.info("Unmatched on table '{}', ignore left tables", finishedTable.getDataNode().format());
+                    breaking = true;
+                }
+            }
+        } finally {
+            runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
+            executor.shutdownNow();
+        }
+    }
+    
+    private <T> T waitFuture(final Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
             }
+            throw new PipelineInternalException(ex.getCause());
         }
-        return false;
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final String targetTableName, final DataNode dataNode,
-                                                                          final TableDataConsistencyChecker tableChecker, final PipelineDataSourceManager dataSourceManager) {
-        QualifiedTable sourceTable = new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
-        QualifiedTable targetTable = new QualifiedTable(dataNode.getSchemaName(), targetTableName);
+    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final CheckingTable checkingTable, final TableDataConsistencyChecker tableChecker,
+                                                                          final PipelineDataSourceManager dataSourceManager) {
+        DataNode dataNode = checkingTable.getDataNode();
+        QualifiedTable sourceTable = checkingTable.getSourceTable();
+        QualifiedTable targetTable = new QualifiedTable(dataNode.getSchemaName(), checkingTable.getLogicTableName());
         PipelineDataSource sourceDataSource = dataSourceManager.getDataSource(jobConfig.getSources().get(dataNode.getDataSourceName()));
         PipelineDataSource targetDataSource = dataSourceManager.getDataSource(jobConfig.getTarget());
         PipelineTableMetaDataLoader metaDataLoader = new StandardPipelineTableMetaDataLoader(sourceDataSource);
@@ -137,20 +251,44 @@ public final class MigrationDataConsistencyChecker implements PipelineDataConsis
         TableInventoryCheckParameter param = new TableInventoryCheckParameter(
                 jobConfig.getJobId(), sourceDataSource, targetDataSource, sourceTable, targetTable, columnNames, uniqueKeys, readRateLimitAlgorithm, progressContext);
         TableInventoryChecker tableInventoryChecker = tableChecker.buildTableInventoryChecker(param);
-        currentTableInventoryChecker.set(tableInventoryChecker);
-        TableDataConsistencyCheckResult result = tableInventoryChecker.checkSingleTableInventoryData();
-        currentTableInventoryChecker.set(null);
+        runningTableInventoryCheckers.add(tableInventoryChecker);
+        TableDataConsistencyCheckResult result;
+        try {
+            result = tableInventoryChecker.checkSingleTableInventoryData();
+        } finally {
+            runningTableInventoryCheckers.remove(tableInventoryChecker);
+        }
+        if (result.isMatched()) {
+            progressContext.getCheckedTableNames().add(dataNode.format());
+            progressContext.onProgressUpdated(new PipelineJobUpdateProgress(0));
+        }
         return result;
     }
     
     @Override
     public void cancel() {
         canceling.set(true);
-        Optional.ofNullable(currentTableInventoryChecker.get()).ifPresent(TableInventoryChecker::cancel);
+        runningTableInventoryCheckers.forEach(TableInventoryChecker::cancel);
     }
     
     @Override
     public boolean isCanceling() {
         return canceling.get();
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CheckingTable {
+        
+        private final String logicTableName;
+        
+        private final DataNode dataNode;
+        
+        @Setter
+        private long estimatedRecordsCount;
+        
+        QualifiedTable getSourceTable() {
+            return new QualifiedTable(dataNode.getSchemaName(), dataNode.getTableName());
+        }
+    }
 }
@@ -30,7 +30,10 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.PartitionedChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.PipelineDataSourceSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.DialectIncrementalDumperCreator;
@@ -74,8 +77,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Migration job preparer.
@@ -189,8 +194,21 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, 1, 5L, jobItemContext.getSink(), jobItemContext));
-        PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
+        Collection<Importer> importers = Collections.singletonList(createIncrementalImporter(jobItemContext, channel));
+        PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, channel, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private Importer createIncrementalImporter(final MigrationJobItemContext jobItemContext, final PipelineChannel channel) {
+        int concurrency = jobItemContext.getTaskConfig().getImporterConfig().getConcurrency();
+        int batchSize = jobItemContext.getTaskConfig().getImporterConfig().getBatchSize();
+        if (!Boolean.TRUE.equals(jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getPartitionedApply()) || concurrency <= 1) {
+            return new SingleChannelConsumerImporter(channel, batchSize, 5L, jobItemContext.getSink(), jobItemContext);
+        }
+        List<PipelineSink> sinks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sinks.add(new PipelineDataSourceSink(jobItemContext.getTaskConfig().getImporterConfig(), jobItemContext.getDataSourceManager(), false));
+        }
+        return new PartitionedChannelConsumerImporter(channel, batchSize, 5L, sinks, jobItemContext);
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.metadata.persist.service.metadata.schema;
 
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNodePath;
@@ -71,14 +72,15 @@ public final class SchemaMetaDataPersistService {
      *
      * @param databaseName to be altered database name
      * @param schema to be altered schema
+     * @param temporaryProps temporary configuration properties
      */
-    public void alterByRefresh(final String databaseName, final ShardingSphereSchema schema) {
+    public void alterByRefresh(final String databaseName, final ShardingSphereSchema schema, final TemporaryConfigurationProperties temporaryProps) {
         String schemaName = schema.getName().toLowerCase();
         if (schema.isEmpty()) {
             add(databaseName, schemaName);
         }
         ShardingSphereSchema currentSchema = new ShardingSphereSchema(schemaName, tableMetaDataPersistService.load(databaseName, schemaName), Collections.emptyList());
-        tableMetaDataPersistService.persist(databaseName, schemaName, GenericSchemaManager.getToBeAddedTables(schema, currentSchema));
+        tableMetaDataPersistService.persist(databaseName, schemaName, GenericSchemaManager.getToBeAddedTables(schema, currentSchema), temporaryProps);
         GenericSchemaManager.getToBeDroppedTables(schema, currentSchema).forEach(each -> tableMetaDataPersistService.drop(databaseName, schemaName, each.getName()));
     }
     
@@ -87,13 +89,14 @@ public final class SchemaMetaDataPersistService {
      *
      * @param databaseName database name
      * @param schema to be altered schema
+     * @param temporaryProps temporary configuration properties
      */
-    public void alterByRuleAltered(final String databaseName, final ShardingSphereSchema schema) {
+    public void alterByRuleAltered(final String databaseName, final ShardingSphereSchema schema, final TemporaryConfigurationProperties temporaryProps) {
         String schemaName = schema.getName().toLowerCase();
         if (schema.isEmpty()) {
             add(databaseName, schemaName);
         }
-        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getAllTables());
+        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getAllTables(), temporaryProps);
     }
     
     /**
@@ -101,9 +104,10 @@ public final class SchemaMetaDataPersistService {
      *
      * @param databaseName database name
      * @param schema to be altered schema
+     * @param temporaryProps temporary configuration properties
      */
-    public void alterByRuleDropped(final String databaseName, final ShardingSphereSchema schema) {
-        tableMetaDataPersistService.persist(databaseName, schema.getName(), schema.getAllTables());
+    public void alterByRuleDropped(final String databaseName, final ShardingSphereSchema schema, final TemporaryConfigurationProperties temporaryProps) {
+        tableMetaDataPersistService.persist(databaseName, schema.getName(), schema.getAllTables(), temporaryProps);
     }
     
     /**
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.metadata.table;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Table meta data content codec.
+ *
+ * <p>Tables are encoded as YAML, or as deflated binary snapshot when compact format is enabled. Both formats are decoded, so YAML content persisted before stays readable.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataContentCodec {
+    
+    private static final String COMPACT_FORMAT_PREFIX = "#compact-v1:";
+    
+    private static final int PRIMARY_KEY_FLAG = 1;
+    
+    private static final int GENERATED_FLAG = 1 << 1;
+    
+    private static final int CASE_SENSITIVE_FLAG = 1 << 2;
+    
+    private static final int VISIBLE_FLAG = 1 << 3;
+    
+    private static final int UNSIGNED_FLAG = 1 << 4;
+    
+    private static final int NULLABLE_FLAG = 1 << 5;
+    
+    /**
+     * Encode table.
+     *
+     * @param table table to be encoded
+     * @param compactFormatEnabled whether compact format enabled
+     * @return encoded content
+     */
+    public static String encode(final ShardingSphereTable table, final boolean compactFormatEnabled) {
+        return compactFormatEnabled
+                ? COMPACT_FORMAT_PREFIX + Base64.getEncoder().encodeToString(encodeCompactFormat(table))
+                : YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(table));
+    }
+    
+    /**
+     * Decode table.
+     *
+     * @param content content to be decoded
+     * @return decoded table
+     */
+    public static ShardingSphereTable decode(final String content) {
+        return content.startsWith(COMPACT_FORMAT_PREFIX)
+                ? decodeCompactFormat(Base64.getDecoder().decode(content.substring(COMPACT_FORMAT_PREFIX.length())))
+                : new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(content, YamlShardingSphereTable.class));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static byte[] encodeCompactFormat(final ShardingSphereTable table) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(result))) {
+            output.writeUTF(table.getName());
+            writeNullableString(output, null == table.getType() ? null : table.getType().name());
+            Collection<ShardingSphereColumn> columns = distinctByLowerCaseName(table.getAllColumns(), ShardingSphereColumn::getName);
+            output.writeInt(columns.size());
+            for (ShardingSphereColumn each : columns) {
+                output.writeUTF(each.getName());
+                output.writeInt(each.getDataType());
+                output.writeByte(getColumnFlags(each));
+            }
+            Collection<ShardingSphereIndex> indexes = distinctByLowerCaseName(table.getAllIndexes(), ShardingSphereIndex::getName);
+            output.writeInt(indexes.size());
+            for (ShardingSphereIndex each : indexes) {
+                output.writeUTF(each.getName());
+                output.writeInt(each.getColumns().size());
+                for (String column : each.getColumns()) {
+                    output.writeUTF(column);
+                }
+                output.writeBoolean(each.isUnique());
+            }
+            Collection<ShardingSphereConstraint> constraints = distinctByLowerCaseName(table.getAllConstraints(), ShardingSphereConstraint::getName);
+            output.writeInt(constraints.size());
+            for (ShardingSphereConstraint each : constraints) {
+                output.writeUTF(each.getName());
+                writeNullableString(output, each.getReferencedTableName());
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private static <T> Collection<T> distinctByLowerCaseName(final Collection<T> elements, final Function<T, String> nameGetter) {
+        Collection<String> names = new HashSet<>(elements.size(), 1F);
+        Collection<T> result = new LinkedList<>();
+        for (T each : elements) {
+            if (names.add(nameGetter.apply(each).toLowerCase())) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static int getColumnFlags(final ShardingSphereColumn column) {
+        int result = column.isPrimaryKey() ? PRIMARY_KEY_FLAG : 0;
+        result |= column.isGenerated() ? GENERATED_FLAG : 0;
+        result |= column.isCaseSensitive() ? CASE_SENSITIVE_FLAG : 0;
+        result |= column.isVisible() ? VISIBLE_FLAG : 0;
+        result |= column.isUnsigned() ? UNSIGNED_FLAG : 0;
+        result |= column.isNullable() ? NULLABLE_FLAG : 0;
+        return result;
+    }
+    
+    private static void writeNullableString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeUTF(value);
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static ShardingSphereTable decodeCompactFormat(final byte[] content) {
+        try (DataInputStream input = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(content)))) {
+            String name = input.readUTF();
+            String type = readNullableString(input);
+            int columnCount = input.readInt();
+            List<ShardingSphereColumn> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                String columnName = input.readUTF();
+                int dataType = input.readInt();
+                int flags = input.readByte();
+                columns.add(new ShardingSphereColumn(columnName, dataType, 0 != (flags & PRIMARY_KEY_FLAG), 0 != (flags & GENERATED_FLAG), 0 != (flags & CASE_SENSITIVE_FLAG),
+                        0 != (flags & VISIBLE_FLAG), 0 != (flags & UNSIGNED_FLAG), 0 != (flags & NULLABLE_FLAG)));
+            }
+            int indexCount = input.readInt();
+            List<ShardingSphereIndex> indexes = new ArrayList<>(indexCount);
+            for (int i = 0; i < indexCount; i++) {
+                String indexName = input.readUTF();
+                int indexColumnCount = input.readInt();
+                List<String> indexColumns = new ArrayList<>(indexColumnCount);
+                for (int j = 0; j < indexColumnCount; j++) {
+                    indexColumns.add(input.readUTF());
+                }
+                indexes.add(new ShardingSphereIndex(indexName, indexColumns, input.readBoolean()));
+            }
+            int constraintCount = input.readInt();
+            List<ShardingSphereConstraint> constraints = new ArrayList<>(constraintCount);
+            for (int i = 0; i < constraintCount; i++) {
+                constraints.add(new ShardingSphereConstraint(input.readUTF(), readNullableString(input)));
+            }
+            return new ShardingSphereTable(name, columns, indexes, constraints, null == type ? null : TableType.valueOf(type));
+        }
+    }
+    
+    private static String readNullableString(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -19,18 +19,21 @@ package org.apache.shardingsphere.metadata.persist.service.metadata.table;
 
 import com.google.common.base.Strings;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.version.MetaDataVersion;
-import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
-import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
-import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.metadata.persist.node.metadata.TableMetaDataNode;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -65,7 +68,7 @@ public final class TableMetaDataPersistService {
     public ShardingSphereTable load(final String databaseName, final String schemaName, final String tableName) {
         String tableContent = repository.query(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName,
                 repository.query(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName))));
-        return new YamlTableSwapper().swapToObject(YamlEngine.unmarshal(tableContent, YamlShardingSphereTable.class));
+        return TableMetaDataContentCodec.decode(tableContent);
     }
     
     /**
@@ -74,20 +77,28 @@ public final class TableMetaDataPersistService {
      * @param databaseName to be persisted database name
      * @param schemaName to be persisted schema name
      * @param tables to be persisted tables
+     * @param temporaryProps temporary configuration properties
      */
-    public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables) {
+    public void persist(final String databaseName, final String schemaName, final Collection<ShardingSphereTable> tables, final TemporaryConfigurationProperties temporaryProps) {
+        boolean compactFormatEnabled = temporaryProps.getValue(TemporaryConfigurationPropertyKey.META_DATA_COMPACT_FORMAT_ENABLED);
+        Map<String, String> toBePersistedNodes = new LinkedHashMap<>(tables.size() * 2, 1F);
         Collection<MetaDataVersion> metaDataVersions = new LinkedList<>();
+        Collection<String> existedTableNames = new HashSet<>(repository.getChildrenKeys(TableMetaDataNode.getMetaDataTablesNode(databaseName, schemaName)));
         for (ShardingSphereTable each : tables) {
             String tableName = each.getName().toLowerCase();
-            List<String> versions = metaDataVersionPersistService.getVersions(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName));
+            // Versions of tables absent from repository are not read, so new tables do not cost round trips.
+            boolean existed = existedTableNames.contains(tableName);
+            List<String> versions = existed ? metaDataVersionPersistService.getVersions(TableMetaDataNode.getTableVersionsNode(databaseName, schemaName, tableName)) : Collections.emptyList();
             String nextActiveVersion = versions.isEmpty() ? MetaDataVersion.DEFAULT_VERSION : String.valueOf(Integer.parseInt(versions.get(0)) + 1);
-            repository.persist(
-                    TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion), YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(each)));
-            if (Strings.isNullOrEmpty(getActiveVersion(databaseName, schemaName, tableName))) {
-                repository.persist(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), MetaDataVersion.DEFAULT_VERSION);
+            toBePersistedNodes.put(TableMetaDataNode.getTableVersionNode(databaseName, schemaName, tableName, nextActiveVersion), TableMetaDataContentCodec.encode(each, compactFormatEnabled));
+            String activeVersion = existed ? getActiveVersion(databaseName, schemaName, tableName) : null;
+            if (Strings.isNullOrEmpty(activeVersion)) {
+                activeVersion = MetaDataVersion.DEFAULT_VERSION;
+                toBePersistedNodes.put(TableMetaDataNode.getTableActiveVersionNode(databaseName, schemaName, tableName), activeVersion);
             }
-            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), getActiveVersion(databaseName, schemaName, tableName), nextActiveVersion));
+            metaDataVersions.add(new MetaDataVersion(TableMetaDataNode.getTableNode(databaseName, schemaName, tableName), activeVersion, nextActiveVersion));
         }
+        repository.persist(toBePersistedNodes);
         metaDataVersionPersistService.switchActiveVersion(metaDataVersions);
     }
     
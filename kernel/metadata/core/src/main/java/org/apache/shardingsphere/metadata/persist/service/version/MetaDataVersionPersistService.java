@@ -24,7 +24,9 @@ import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNodePath;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Meta data version persist service.
@@ -37,11 +39,13 @@ public final class MetaDataVersionPersistService implements MetaDataVersionBased
     
     @Override
     public void switchActiveVersion(final Collection<MetaDataVersion> metaDataVersions) {
-        for (MetaDataVersion each : metaDataVersions) {
-            if (each.getNextActiveVersion().equals(each.getCurrentActiveVersion())) {
-                continue;
-            }
-            repository.persist(each.getActiveVersionNodePath(), each.getNextActiveVersion());
+        Collection<MetaDataVersion> toBeSwitchedVersions = metaDataVersions.stream().filter(each -> !each.getNextActiveVersion().equals(each.getCurrentActiveVersion())).collect(Collectors.toList());
+        if (toBeSwitchedVersions.isEmpty()) {
+            return;
+        }
+        repository.persist(toBeSwitchedVersions.stream().collect(
+                Collectors.toMap(MetaDataVersion::getActiveVersionNodePath, MetaDataVersion::getNextActiveVersion, (oldValue, currentValue) -> currentValue, LinkedHashMap::new)));
+        for (MetaDataVersion each : toBeSwitchedVersions) {
             getVersions(each.getVersionsPath()).stream()
                     .filter(version -> Integer.parseInt(version) < Integer.parseInt(each.getNextActiveVersion()))
                     .forEach(version -> repository.delete(each.getVersionsNodePath(version)));
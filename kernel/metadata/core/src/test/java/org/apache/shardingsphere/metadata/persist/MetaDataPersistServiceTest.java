@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.metadata.persist;
 
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.decorator.RuleConfigurationDecorator;
 import org.apache.shardingsphere.infra.datasource.pool.config.DataSourceConfiguration;
@@ -64,6 +65,8 @@ import static org.mockito.Mockito.when;
 @StaticMockSettings({TypedSPILoader.class, DataSourcePoolPropertiesCreator.class, GenericSchemaManager.class})
 class MetaDataPersistServiceTest {
     
+    private final TemporaryConfigurationProperties temporaryProps = new TemporaryConfigurationProperties(new Properties());
+    
     @Mock
     private DataSourceUnitPersistService dataSourceUnitService;
     
@@ -150,8 +153,8 @@ class MetaDataPersistServiceTest {
         ShardingSphereSchema toBeAddedSchema = new ShardingSphereSchema("to_be_added");
         when(GenericSchemaManager.getToBeAlteredSchemasWithTablesDropped(any(), any())).thenReturn(Collections.singleton(toBeDeletedSchema));
         when(GenericSchemaManager.getToBeAlteredSchemasWithTablesAdded(any(), any())).thenReturn(Collections.singleton(toBeAddedSchema));
-        metaDataPersistService.persistReloadDatabaseByAlter("foo_db", mock(ShardingSphereDatabase.class), mock(ShardingSphereDatabase.class));
-        verify(databaseMetaDataFacade.getSchema()).alterByRuleAltered("foo_db", toBeAddedSchema);
+        metaDataPersistService.persistReloadDatabaseByAlter("foo_db", mock(ShardingSphereDatabase.class), mock(ShardingSphereDatabase.class), temporaryProps);
+        verify(databaseMetaDataFacade.getSchema()).alterByRuleAltered("foo_db", toBeAddedSchema, temporaryProps);
         verify(databaseMetaDataFacade.getTable()).drop(eq("foo_db"), eq("to_be_deleted"), anyCollection());
     }
     
@@ -161,8 +164,8 @@ class MetaDataPersistServiceTest {
         ShardingSphereSchema toBeAlterSchema = new ShardingSphereSchema("to_be_altered");
         when(GenericSchemaManager.getToBeAlteredSchemasWithTablesDropped(any(), any())).thenReturn(Collections.singleton(toBeDeletedSchema));
         when(GenericSchemaManager.getToBeAlteredSchemasWithTablesAdded(any(), any())).thenReturn(Collections.singleton(toBeAlterSchema));
-        metaDataPersistService.persistReloadDatabaseByDrop("foo_db", mock(ShardingSphereDatabase.class), mock(ShardingSphereDatabase.class));
-        verify(databaseMetaDataFacade.getSchema()).alterByRuleDropped("foo_db", toBeAlterSchema);
+        metaDataPersistService.persistReloadDatabaseByDrop("foo_db", mock(ShardingSphereDatabase.class), mock(ShardingSphereDatabase.class), temporaryProps);
+        verify(databaseMetaDataFacade.getSchema()).alterByRuleDropped("foo_db", toBeAlterSchema, temporaryProps);
         verify(databaseMetaDataFacade.getTable()).drop(eq("foo_db"), eq("to_be_deleted"), anyCollection());
     }
 }
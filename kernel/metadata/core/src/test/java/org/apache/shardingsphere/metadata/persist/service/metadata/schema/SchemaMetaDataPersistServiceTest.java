@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.metadata.persist.service.metadata.schema;
 
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
@@ -33,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -48,6 +50,8 @@ class SchemaMetaDataPersistServiceTest {
     
     private SchemaMetaDataPersistService persistService;
     
+    private final TemporaryConfigurationProperties temporaryProps = new TemporaryConfigurationProperties(new Properties());
+    
     @Mock
     private PersistRepository repository;
     
@@ -78,27 +82,27 @@ class SchemaMetaDataPersistServiceTest {
     
     @Test
     void assertAlterByRefreshWithoutTablesAndViews() {
-        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema"));
+        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema"), temporaryProps);
         verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.emptyList());
+        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.emptyList(), temporaryProps);
     }
     
     @Test
     void assertAlterByRefreshWithTables() {
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
-        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema", Collections.singleton(table), Collections.emptyList()));
+        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema", Collections.singleton(table), Collections.emptyList()), temporaryProps);
         verify(repository, times(0)).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.singletonList(table));
+        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.singletonList(table), temporaryProps);
     }
     
     @Test
     void assertAlterByRefreshWithViews() {
         ShardingSphereView view = mock(ShardingSphereView.class);
         when(view.getName()).thenReturn("foo_view");
-        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema", Collections.emptyList(), Collections.singleton(view)));
+        persistService.alterByRefresh("foo_db", new ShardingSphereSchema("foo_schema", Collections.emptyList(), Collections.singleton(view)), temporaryProps);
         verify(repository, times(0)).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.emptyList());
+        verify(tableMetaDataPersistService).persist("foo_db", "foo_schema", Collections.emptyList(), temporaryProps);
     }
     
     @Test
@@ -118,32 +122,32 @@ class SchemaMetaDataPersistServiceTest {
     
     @Test
     void assertAlterSchemaByAlterConfigurationByRefresh() {
-        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema"));
+        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema"), temporaryProps);
         verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection());
+        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection(), eq(temporaryProps));
     }
     
     @Test
     void assertAlterSchemaByAlterConfigurationWithNotEmptyTablesByRefresh() {
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
-        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema", Collections.singletonList(table), Collections.emptyList()));
+        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema", Collections.singletonList(table), Collections.emptyList()), temporaryProps);
         verify(repository, times(0)).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection());
+        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection(), eq(temporaryProps));
     }
     
     @Test
     void assertAlterSchemaByAlterConfigurationWithNotEmptyViewsByRefresh() {
         ShardingSphereView view = mock(ShardingSphereView.class);
         when(view.getName()).thenReturn("foo_view");
-        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema", Collections.emptyList(), Collections.singleton(view)));
+        persistService.alterByRuleAltered("foo_db", new ShardingSphereSchema("foo_schema", Collections.emptyList(), Collections.singleton(view)), temporaryProps);
         verify(repository, times(0)).persist("/metadata/foo_db/schemas/foo_schema/tables", "");
-        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection());
+        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection(), eq(temporaryProps));
     }
     
     @Test
     void assertAlterByRefreshByDropConfiguration() {
-        persistService.alterByRuleDropped("foo_db", new ShardingSphereSchema("foo_schema"));
-        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection());
+        persistService.alterByRuleDropped("foo_db", new ShardingSphereSchema("foo_schema"), temporaryProps);
+        verify(tableMetaDataPersistService).persist(eq("foo_db"), eq("foo_schema"), anyCollection(), eq(temporaryProps));
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.metadata.persist.service.metadata.table;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataContentCodecTest {
+    
+    @Test
+    void assertEncodeAndDecodeWithYamlFormat() {
+        String actual = TableMetaDataContentCodec.encode(createTable(), false);
+        assertTrue(actual.contains("name: foo_tbl"));
+        assertFalse(actual.startsWith("#compact-v1:"));
+        assertTable(TableMetaDataContentCodec.decode(actual));
+    }
+    
+    @Test
+    void assertEncodeAndDecodeWithCompactFormat() {
+        String actual = TableMetaDataContentCodec.encode(createTable(), true);
+        assertTrue(actual.startsWith("#compact-v1:"));
+        assertTrue(actual.length() < TableMetaDataContentCodec.encode(createTable(), false).length());
+        assertTable(TableMetaDataContentCodec.decode(actual));
+    }
+    
+    @Test
+    void assertDecodeWithLegacyYamlContent() {
+        ShardingSphereTable actual = TableMetaDataContentCodec.decode("name: foo_tbl" + System.lineSeparator());
+        assertThat(actual.getName(), is("foo_tbl"));
+        assertTrue(actual.getAllColumns().isEmpty());
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn idColumn = new ShardingSphereColumn("id", Types.INTEGER, true, true, false, true, true, false);
+        ShardingSphereColumn nameColumn = new ShardingSphereColumn("name", Types.VARCHAR, false, false, true, false, false, true);
+        ShardingSphereIndex index = new ShardingSphereIndex("foo_idx", Arrays.asList("id", "name"), true);
+        ShardingSphereConstraint constraint = new ShardingSphereConstraint("foo_fk", null);
+        return new ShardingSphereTable("foo_tbl", Arrays.asList(idColumn, nameColumn), Collections.singleton(index), Collections.singleton(constraint), TableType.TABLE);
+    }
+    
+    private void assertTable(final ShardingSphereTable actual) {
+        assertThat(actual.getName(), is("foo_tbl"));
+        assertThat(actual.getType(), is(TableType.TABLE));
+        assertThat(actual.getAllColumns().size(), is(2));
+        ShardingSphereColumn idColumn = actual.getColumn("id");
+        assertThat(idColumn.getDataType(), is(Types.INTEGER));
+        assertTrue(idColumn.isPrimaryKey());
+        assertTrue(idColumn.isGenerated());
+        assertFalse(idColumn.isCaseSensitive());
+        assertTrue(idColumn.isVisible());
+        assertTrue(idColumn.isUnsigned());
+        assertFalse(idColumn.isNullable());
+        ShardingSphereColumn nameColumn = actual.getColumn("name");
+        assertThat(nameColumn.getDataType(), is(Types.VARCHAR));
+        assertFalse(nameColumn.isPrimaryKey());
+        assertTrue(nameColumn.isCaseSensitive());
+        assertFalse(nameColumn.isVisible());
+        assertTrue(nameColumn.isNullable());
+        ShardingSphereIndex index = actual.getAllIndexes().iterator().next();
+        assertThat(index.getName(), is("foo_idx"));
+        assertThat(index.getColumns(), is(Arrays.asList("id", "name")));
+        assertTrue(index.isUnique());
+        assertThat(actual.getAllConstraints().iterator().next().getName(), is("foo_fk"));
+        assertThat(actual.getAllConstraints().iterator().next().getReferencedTableName(), is(nullValue()));
+    }
+}
@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.metadata.persist.service.metadata.table;
 
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.metadata.persist.service.version.MetaDataVersionPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,10 +32,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,23 +69,38 @@ class TableMetaDataPersistServiceTest {
     
     @Test
     void assertPersistWithoutVersion() {
-        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("", "0");
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
-        persistService.persist("foo_db", "foo_schema", Collections.singleton(table));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "name: foo_tbl" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        persistService.persist("foo_db", "foo_schema", Collections.singleton(table), new TemporaryConfigurationProperties(new Properties()));
+        Map<String, String> expectedNodes = new HashMap<>(2, 1F);
+        expectedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "name: foo_tbl" + System.lineSeparator());
+        expectedNodes.put("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        verify(repository).persist(expectedNodes);
+        verify(repository, never()).getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions");
+        verify(repository, never()).query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version");
     }
     
     @Test
     void assertPersistWithVersion() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("foo_tbl"));
         when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions")).thenReturn(Collections.singletonList("10"));
         when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("10");
         ShardingSphereTable table = mock(ShardingSphereTable.class);
         when(table.getName()).thenReturn("foo_tbl");
-        persistService.persist("foo_db", "foo_schema", Collections.singleton(table));
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "name: foo_tbl" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "11");
+        persistService.persist("foo_db", "foo_schema", Collections.singleton(table), new TemporaryConfigurationProperties(new Properties()));
+        verify(repository).persist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/11", "name: foo_tbl" + System.lineSeparator()));
+        verify(repository).persist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "11"));
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/10");
+    }
+    
+    @Test
+    void assertPersistWithCompactFormat() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("foo_tbl"));
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version")).thenReturn("0");
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        persistService.persist("foo_db", "foo_schema", Collections.singleton(table),
+                new TemporaryConfigurationProperties(PropertiesBuilder.build(new Property(TemporaryConfigurationPropertyKey.META_DATA_COMPACT_FORMAT_ENABLED.getKey(), Boolean.TRUE.toString()))));
+        verify(repository).persist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", TableMetaDataContentCodec.encode(table, true)));
     }
     
     @Test
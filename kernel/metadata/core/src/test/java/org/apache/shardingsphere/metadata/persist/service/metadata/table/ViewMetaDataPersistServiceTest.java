@@ -77,7 +77,7 @@ class ViewMetaDataPersistServiceTest {
         when(view.getName()).thenReturn("foo_view");
         persistService.persist("foo_db", "foo_schema", Collections.singleton(view));
         verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/versions/11", "name: foo_view" + System.lineSeparator());
-        verify(repository).persist("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "11");
+        verify(repository).persist(Collections.singletonMap("/metadata/foo_db/schemas/foo_schema/views/foo_view/active_version", "11"));
     }
     
     @Test
@@ -26,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -49,7 +50,7 @@ class MetaDataVersionPersistServiceTest {
     void assertSwitchActiveVersion() {
         when(repository.getChildrenKeys("foo_db/versions")).thenReturn(Arrays.asList("1", "0"));
         persistService.switchActiveVersion(Arrays.asList(new MetaDataVersion("foo_db", "0", "1"), new MetaDataVersion("bar_db", "2", "2")));
-        verify(repository).persist("foo_db/active_version", "1");
+        verify(repository).persist(Collections.singletonMap("foo_db/active_version", "1"));
         verify(repository).delete("foo_db/versions/0");
     }
     
@@ -66,6 +66,7 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFede
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticUtils;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -221,6 +222,7 @@ public final class SQLFederationEngine implements AutoCloseable {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
+        refreshTableRowCounts(sqlFederationSchema, databaseName, schemaName);
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         // TODO open useCache flag when ShardingSphereTable contains version
@@ -274,6 +276,19 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private void refreshTableRowCounts(final Schema sqlFederationSchema, final String databaseName, final String schemaName) {
+        if (null == sqlFederationSchema) {
+            return;
+        }
+        Map<String, Double> rowCounts = SQLFederationStatisticUtils.getLogicTableRowCounts(statistics, databaseName);
+        for (ShardingSphereTable each : metaData.getDatabase(databaseName).getSchema(schemaName).getAllTables()) {
+            Table table = sqlFederationSchema.getTable(each.getName());
+            if (table instanceof SQLFederationTable) {
+                ((SQLFederationTable) table).setRowCount(rowCounts.get(each.getName()));
+            }
+        }
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
@@ -133,6 +133,15 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return statistic;
     }
     
+    /**
+     * Set row count.
+     *
+     * @param rowCount row count, null means unknown
+     */
+    public void setRowCount(final Double rowCount) {
+        statistic.setRowCount(rowCount);
+    }
+    
     @Override
     public Collection<Object[]> getModifiableCollection() {
         throw new UnsupportedOperationException();
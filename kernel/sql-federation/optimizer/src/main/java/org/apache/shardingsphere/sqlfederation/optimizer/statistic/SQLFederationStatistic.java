@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -31,6 +32,14 @@ import java.util.List;
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    @Setter
+    private volatile Double rowCount;
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    private static final String SHARDINGSPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Get row counts of logic tables.
+     *
+     * <p>Row counts of actual tables collected into sharding table statistics are summed by logic table.</p>
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @return logic table name and row count map
+     */
+    public static Map<String, Double> getLogicTableRowCounts(final ShardingSphereStatistics statistics, final String databaseName) {
+        Map<String, Double> result = new CaseInsensitiveMap<>();
+        if (null == statistics) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDINGSPHERE);
+            if (null == schemaData || !schemaData.containsTable(SHARDING_TABLE_STATISTICS)) {
+                continue;
+            }
+            for (ShardingSphereRowData row : schemaData.getTable(SHARDING_TABLE_STATISTICS).getRows()) {
+                List<Object> values = row.getRows();
+                if (values.size() > ROW_COUNT_INDEX && databaseName.equalsIgnoreCase(String.valueOf(values.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                    findRowCount(values.get(ROW_COUNT_INDEX)).ifPresent(optional -> result.merge(String.valueOf(values.get(LOGIC_TABLE_NAME_INDEX)), optional, Double::sum));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Optional<Double> findRowCount(final Object value) {
+        if (value instanceof Number) {
+            return Optional.of(((Number) value).doubleValue());
+        }
+        try {
+            return null == value ? Optional.empty() : Optional.of(new BigDecimal(value.toString()).doubleValue());
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+}
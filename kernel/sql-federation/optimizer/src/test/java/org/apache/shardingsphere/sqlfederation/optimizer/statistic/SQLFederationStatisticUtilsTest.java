@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationStatisticUtilsTest {
+    
+    @Test
+    void assertGetLogicTableRowCounts() {
+        Map<String, Double> actual = SQLFederationStatisticUtils.getLogicTableRowCounts(createStatistics(), "foo_db");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("T_ORDER"), is(30D));
+        assertThat(actual.get("t_order_item"), is(5D));
+        assertFalse(actual.containsKey("t_user"));
+    }
+    
+    @Test
+    void assertGetLogicTableRowCountsWithoutStatistics() {
+        assertTrue(SQLFederationStatisticUtils.getLogicTableRowCounts(null, "foo_db").isEmpty());
+        assertTrue(SQLFederationStatisticUtils.getLogicTableRowCounts(new ShardingSphereStatistics(), "foo_db").isEmpty());
+    }
+    
+    @Test
+    void assertSetRowCount() {
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        assertNull(statistic.getRowCount());
+        statistic.setRowCount(30D);
+        assertThat(statistic.getRowCount(), is(30D));
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", BigDecimal.TEN, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", "20", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_order_item", "ds_0", "t_order_item_0", 5L, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "foo_db", "t_user", "ds_0", "t_user_0", "invalid", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "bar_db", "t_order", "ds_0", "t_order_0", BigDecimal.ONE, BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.mode.spi;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Persist repository.
@@ -63,6 +65,19 @@ public interface PersistRepository extends TypedSPI, AutoCloseable {
      */
     void persist(String key, String value);
     
+    /**
+     * Persist data in batch.
+     *
+     * <p>Repositories supporting transactions write the data in as few round trips as possible, other repositories persist one by one in iteration order.</p>
+     *
+     * @param keyValues key and value of data
+     */
+    default void persist(final Map<String, String> keyValues) {
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            persist(entry.getKey(), entry.getValue());
+        }
+    }
+    
     /**
      * Persist ephemeral data.
      *
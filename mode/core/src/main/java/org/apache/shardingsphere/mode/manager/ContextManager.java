@@ -136,7 +136,8 @@ public final class ContextManager implements AutoCloseable {
                 persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataFacade().getSchema().drop(database.getName(), schemaName);
             } else {
                 database.addSchema(reloadedSchema);
-                persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataFacade().getSchema().alterByRefresh(database.getName(), reloadedSchema);
+                persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataFacade().getSchema()
+                        .alterByRefresh(database.getName(), reloadedSchema, metaDataContexts.get().getMetaData().getTemporaryProps());
             }
         } catch (final SQLException ex) {
             log.error("Reload meta data of database: {} schema: {} with data source: {} failed", database.getName(), schemaName, dataSourceName, ex);
@@ -190,7 +191,8 @@ public final class ContextManager implements AutoCloseable {
     
     private void persistTable(final ShardingSphereDatabase database, final String schemaName, final String tableName, final GenericSchemaBuilderMaterial material) throws SQLException {
         ShardingSphereSchema schema = GenericSchemaBuilder.build(Collections.singleton(tableName), database.getProtocolType(), material).getOrDefault(schemaName, new ShardingSphereSchema(schemaName));
-        persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataFacade().getTable().persist(database.getName(), schemaName, Collections.singleton(schema.getTable(tableName)));
+        persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataFacade().getTable().persist(
+                database.getName(), schemaName, Collections.singleton(schema.getTable(tableName)), metaDataContexts.get().getMetaData().getTemporaryProps());
     }
     
     /**
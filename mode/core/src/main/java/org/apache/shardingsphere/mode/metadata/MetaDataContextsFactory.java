@@ -243,7 +243,7 @@ public final class MetaDataContextsFactory {
             if (schema.isEmpty()) {
                 persistService.getDatabaseMetaDataFacade().getSchema().add(each.getName(), schema.getName());
             }
-            persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schema.getName(), schema.getAllTables());
+            persistService.getDatabaseMetaDataFacade().getTable().persist(each.getName(), schema.getName(), schema.getAllTables(), metaDataContexts.getMetaData().getTemporaryProps());
         }));
         for (Entry<String, ShardingSphereDatabaseData> databaseDataEntry : metaDataContexts.getStatistics().getDatabaseData().entrySet()) {
             for (Entry<String, ShardingSphereSchemaData> schemaDataEntry : databaseDataEntry.getValue().getSchemaData().entrySet()) {
@@ -303,6 +303,34 @@ public final class MetaDataContextsFactory {
                 clonedMetaData.getAllDatabases(), originalMetaDataContexts.getMetaData().getGlobalResourceMetaData(), changedGlobalMetaData, props));
     }
     
+    /**
+     * Create meta data contexts by alter rule with changed tables.
+     *
+     * <p>Only changed tables are reloaded from storage units, other tables are shared with original database.</p>
+     *
+     * @param databaseName database name
+     * @param ruleConfigs rule configs
+     * @param changedTableNames changed table names
+     * @param originalMetaDataContexts original meta data contexts
+     * @param metaDataPersistService meta data persist service
+     * @param instanceContext compute node instance context
+     * @return meta data contexts
+     * @throws SQLException SQL exception
+     */
+    public static MetaDataContexts createByAlterRule(final String databaseName, final Collection<RuleConfiguration> ruleConfigs, final Collection<String> changedTableNames,
+                                                     final MetaDataContexts originalMetaDataContexts, final MetaDataPersistService metaDataPersistService,
+                                                     final ComputeNodeInstanceContext instanceContext) throws SQLException {
+        ShardingSphereDatabase originalDatabase = originalMetaDataContexts.getMetaData().getDatabase(databaseName);
+        ConfigurationProperties props = originalMetaDataContexts.getMetaData().getProps();
+        ShardingSphereDatabase changedDatabase = ShardingSphereDatabase.create(
+                originalDatabase, getDatabaseConfiguration(originalDatabase.getResourceMetaData(), null, ruleConfigs), props, instanceContext, changedTableNames);
+        ShardingSphereMetaData clonedMetaData = cloneMetaData(originalMetaDataContexts.getMetaData(), changedDatabase);
+        RuleMetaData changedGlobalMetaData = new RuleMetaData(
+                GlobalRulesBuilder.buildRules(originalMetaDataContexts.getMetaData().getGlobalRuleMetaData().getConfigurations(), clonedMetaData.getAllDatabases(), props));
+        return create(metaDataPersistService, new ShardingSphereMetaData(
+                clonedMetaData.getAllDatabases(), originalMetaDataContexts.getMetaData().getGlobalResourceMetaData(), changedGlobalMetaData, props));
+    }
+    
     private static ShardingSphereMetaData cloneMetaData(final ShardingSphereMetaData originalMetaData, final ShardingSphereDatabase changedDatabase) {
         ShardingSphereMetaData result = new ShardingSphereMetaData(
                 originalMetaData.getAllDatabases(), originalMetaData.getGlobalResourceMetaData(), originalMetaData.getGlobalRuleMetaData(), originalMetaData.getProps());
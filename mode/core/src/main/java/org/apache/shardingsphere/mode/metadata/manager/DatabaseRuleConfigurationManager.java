@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.PartialRuleUpdateSupported;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.metadata.persist.MetaDataPersistService;
@@ -33,6 +34,8 @@ import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -72,10 +75,11 @@ public final class DatabaseRuleConfigurationManager {
             ((PartialRuleUpdateSupported) toBeChangedRule.get()).updateConfiguration(ruleConfig);
             return;
         }
-        rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
-        rules.addAll(DatabaseRulesBuilder.build(
-                databaseName, database.getProtocolType(), database.getRuleMetaData().getRules(), ruleConfig, computeNodeInstanceContext, database.getResourceMetaData()));
-        refreshMetadata(databaseName, getRuleConfigurations(rules));
+        Collection<ShardingSphereRule> toBeRemovedRules = removeRules(rules, ruleConfig);
+        Collection<ShardingSphereRule> builtRules = DatabaseRulesBuilder.build(
+                databaseName, database.getProtocolType(), database.getRuleMetaData().getRules(), ruleConfig, computeNodeInstanceContext, database.getResourceMetaData());
+        rules.addAll(builtRules);
+        refreshMetadata(databaseName, getRuleConfigurations(rules), getChangedTableNames(toBeRemovedRules, builtRules));
     }
     
     /**
@@ -94,17 +98,34 @@ public final class DatabaseRuleConfigurationManager {
             ((PartialRuleUpdateSupported) toBeChangedRule.get()).updateConfiguration(ruleConfig);
             return;
         }
-        rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
-        if (!TypedSPILoader.getService(DatabaseRuleConfigurationEmptyChecker.class, ruleConfig.getClass()).isEmpty((DatabaseRuleConfiguration) ruleConfig)) {
-            rules.addAll(DatabaseRulesBuilder.build(
-                    databaseName, database.getProtocolType(), database.getRuleMetaData().getRules(), ruleConfig, computeNodeInstanceContext, database.getResourceMetaData()));
+        Collection<ShardingSphereRule> toBeRemovedRules = removeRules(rules, ruleConfig);
+        Collection<ShardingSphereRule> builtRules = TypedSPILoader.getService(DatabaseRuleConfigurationEmptyChecker.class, ruleConfig.getClass()).isEmpty((DatabaseRuleConfiguration) ruleConfig)
+                ? Collections.emptyList()
+                : DatabaseRulesBuilder.build(databaseName, database.getProtocolType(), database.getRuleMetaData().getRules(), ruleConfig, computeNodeInstanceContext, database.getResourceMetaData());
+        rules.addAll(builtRules);
+        refreshMetadata(databaseName, getRuleConfigurations(rules), getChangedTableNames(toBeRemovedRules, builtRules));
+    }
+    
+    private Collection<ShardingSphereRule> removeRules(final Collection<ShardingSphereRule> rules, final RuleConfiguration ruleConfig) {
+        Collection<ShardingSphereRule> result = rules.stream().filter(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass())).collect(Collectors.toList());
+        rules.removeAll(result);
+        return result;
+    }
+    
+    private Collection<String> getChangedTableNames(final Collection<ShardingSphereRule> removedRules, final Collection<ShardingSphereRule> builtRules) {
+        Collection<String> result = new HashSet<>();
+        for (ShardingSphereRule each : removedRules) {
+            each.getAttributes().findAttribute(TableMapperRuleAttribute.class).ifPresent(optional -> result.addAll(optional.getLogicTableNames()));
+        }
+        for (ShardingSphereRule each : builtRules) {
+            each.getAttributes().findAttribute(TableMapperRuleAttribute.class).ifPresent(optional -> result.addAll(optional.getLogicTableNames()));
         }
-        refreshMetadata(databaseName, getRuleConfigurations(rules));
+        return result;
     }
     
-    private void refreshMetadata(final String databaseName, final Collection<RuleConfiguration> ruleConfigurations) throws SQLException {
-        MetaDataContexts reloadMetaDataContexts = MetaDataContextsFactory.createByAlterRule(databaseName, false,
-                ruleConfigurations, metaDataContexts.get(), metaDataPersistService, computeNodeInstanceContext);
+    private void refreshMetadata(final String databaseName, final Collection<RuleConfiguration> ruleConfigurations, final Collection<String> changedTableNames) throws SQLException {
+        MetaDataContexts reloadMetaDataContexts = MetaDataContextsFactory.createByAlterRule(databaseName,
+                ruleConfigurations, changedTableNames, metaDataContexts.get(), metaDataPersistService, computeNodeInstanceContext);
         metaDataContexts.set(reloadMetaDataContexts);
     }
     
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 import org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.DataChangedEventListenerRegistry;
 import org.apache.shardingsphere.mode.manager.cluster.exception.MissingRequiredClusterRepositoryConfigurationException;
+import org.apache.shardingsphere.mode.manager.cluster.exception.UnsupportedClusterRepositoryLocalCacheException;
 import org.apache.shardingsphere.mode.manager.cluster.lock.ClusterLockContext;
 import org.apache.shardingsphere.mode.manager.cluster.persist.service.GlobalLockPersistService;
 import org.apache.shardingsphere.mode.manager.cluster.subscriber.ClusterEventSubscriberRegistry;
@@ -41,6 +42,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsFactory;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.cache.CachedClusterPersistRepository;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
 import java.sql.SQLException;
@@ -71,7 +73,15 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         ShardingSpherePreconditions.checkNotNull(config, MissingRequiredClusterRepositoryConfigurationException::new);
         ClusterPersistRepository result = TypedSPILoader.getService(ClusterPersistRepository.class, config.getType(), config.getProps());
         result.init(config, computeNodeInstanceContext);
-        return result;
+        if (!isLocalCacheEnabled(config)) {
+            return result;
+        }
+        ShardingSpherePreconditions.checkState(result.isConnectionInterruptedListenerSupported(), () -> new UnsupportedClusterRepositoryLocalCacheException(config.getType()));
+        return new CachedClusterPersistRepository(result);
+    }
+    
+    private boolean isLocalCacheEnabled(final ClusterPersistRepositoryConfiguration config) {
+        return null != config.getProps() && Boolean.parseBoolean(config.getProps().getProperty(CachedClusterPersistRepository.LOCAL_CACHE_ENABLED_KEY));
     }
     
     private void registerOnline(final ComputeNodeInstanceContext computeNodeInstanceContext, final ContextManagerBuilderParameter param,
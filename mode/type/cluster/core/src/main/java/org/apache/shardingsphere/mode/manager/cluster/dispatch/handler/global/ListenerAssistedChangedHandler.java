@@ -24,6 +24,7 @@ import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.DataChangedEventHandler;
+import org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.CoalescingDataChangedEventListener;
 import org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.type.DatabaseMetaDataChangedListener;
 import org.apache.shardingsphere.mode.metadata.refresher.ShardingSphereStatisticsRefreshEngine;
 import org.apache.shardingsphere.mode.persist.service.unified.ListenerAssistedType;
@@ -55,7 +56,7 @@ public final class ListenerAssistedChangedHandler implements DataChangedEventHan
     private static void handle(final ContextManager contextManager, final String databaseName, final ListenerAssistedType listenerAssistedType) {
         ClusterPersistRepository repository = (ClusterPersistRepository) contextManager.getPersistServiceFacade().getRepository();
         if (ListenerAssistedType.CREATE_DATABASE == listenerAssistedType) {
-            repository.watch(DatabaseMetaDataNodePath.getDatabasePath(databaseName), new DatabaseMetaDataChangedListener(contextManager));
+            repository.watch(DatabaseMetaDataNodePath.getDatabasePath(databaseName), new CoalescingDataChangedEventListener(new DatabaseMetaDataChangedListener(contextManager)));
             contextManager.getMetaDataContextManager().getSchemaMetaDataManager().addDatabase(databaseName);
         } else if (ListenerAssistedType.DROP_DATABASE == listenerAssistedType) {
             repository.removeDataListener(DatabaseMetaDataNodePath.getDatabasePath(databaseName));
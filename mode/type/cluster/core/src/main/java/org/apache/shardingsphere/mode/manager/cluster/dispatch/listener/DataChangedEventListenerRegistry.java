@@ -53,10 +53,10 @@ public final class DataChangedEventListenerRegistry {
     }
     
     private void registerDatabaseListeners(final String databaseName) {
-        repository.watch(DatabaseMetaDataNodePath.getDatabasePath(databaseName), new DatabaseMetaDataChangedListener(contextManager));
+        repository.watch(DatabaseMetaDataNodePath.getDatabasePath(databaseName), new CoalescingDataChangedEventListener(new DatabaseMetaDataChangedListener(contextManager)));
     }
     
     private void registerGlobalHandlers(final DataChangedEventHandler handler) {
-        repository.watch(handler.getSubscribedKey(), new GlobalMetaDataChangedListener(contextManager, handler));
+        repository.watch(handler.getSubscribedKey(), new OrderedDataChangedEventListener(new GlobalMetaDataChangedListener(contextManager, handler)));
     }
 }
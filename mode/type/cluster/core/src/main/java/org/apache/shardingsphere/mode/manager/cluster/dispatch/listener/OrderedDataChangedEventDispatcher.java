@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.dispatch.listener;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ordered data changed event dispatcher.
+ *
+ * <p>Events of all listeners are dispatched by one thread in the order they are received, so a global event such as dropping database is handled after the database events received before it.
+ * Consecutive events of the same coalescing listener are dispatched in one batch, only the latest event of each key is kept.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class OrderedDataChangedEventDispatcher {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("data-changed-event-dispatch-%d"));
+    
+    private static final Queue<PendingEvent> PENDING_EVENTS = new ConcurrentLinkedQueue<>();
+    
+    private static final AtomicBoolean DISPATCHING = new AtomicBoolean();
+    
+    /**
+     * Dispatch data changed event.
+     *
+     * @param listener data changed event listener
+     * @param event data changed event
+     * @param coalescing whether to coalesce the event with consecutive events of the same listener
+     */
+    public static void dispatch(final DataChangedEventListener listener, final DataChangedEvent event, final boolean coalescing) {
+        PENDING_EVENTS.offer(new PendingEvent(listener, event, coalescing));
+        if (DISPATCHING.compareAndSet(false, true)) {
+            EXECUTOR_SERVICE.execute(OrderedDataChangedEventDispatcher::dispatchPendingEvents);
+        }
+    }
+    
+    private static void dispatchPendingEvents() {
+        do {
+            PendingEvent pendingEvent;
+            while (null != (pendingEvent = PENDING_EVENTS.poll())) {
+                dispatch(pendingEvent);
+            }
+            DISPATCHING.set(false);
+        } while (!PENDING_EVENTS.isEmpty() && DISPATCHING.compareAndSet(false, true));
+    }
+    
+    private static void dispatch(final PendingEvent pendingEvent) {
+        try {
+            if (pendingEvent.isCoalescing()) {
+                pendingEvent.getListener().onChange(pollCoalescedEvents(pendingEvent));
+            } else {
+                pendingEvent.getListener().onChange(pendingEvent.getEvent());
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Dispatch data changed events failed.", ex);
+        }
+    }
+    
+    private static Collection<DataChangedEvent> pollCoalescedEvents(final PendingEvent firstPendingEvent) {
+        Map<String, DataChangedEvent> result = new LinkedHashMap<>();
+        result.put(firstPendingEvent.getEvent().getKey(), firstPendingEvent.getEvent());
+        PendingEvent pendingEvent;
+        while (null != (pendingEvent = PENDING_EVENTS.peek()) && pendingEvent.isCoalescing() && pendingEvent.getListener() == firstPendingEvent.getListener()) {
+            PENDING_EVENTS.poll();
+            result.remove(pendingEvent.getEvent().getKey());
+            result.put(pendingEvent.getEvent().getKey(), pendingEvent.getEvent());
+        }
+        return result.values();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingEvent {
+        
+        private final DataChangedEventListener listener;
+        
+        private final DataChangedEvent event;
+        
+        private final boolean coalescing;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.type;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.infra.spi.type.ordered.cache.OrderedServicesCache;
 import org.apache.shardingsphere.metadata.persist.node.DatabaseMetaDataNodePath;
@@ -28,12 +29,14 @@ import org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.database.
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
  * Database meta data changed listener.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class DatabaseMetaDataChangedListener implements DataChangedEventListener {
     
     private final ContextManager contextManager;
@@ -45,11 +48,36 @@ public final class DatabaseMetaDataChangedListener implements DataChangedEventLi
             return;
         }
         OrderedServicesCache.clearCache();
-        if (new MetaDataChangedHandler(contextManager).handle(databaseName.get(), event)) {
+        handle(databaseName.get(), event, new MetaDataChangedHandler(contextManager), new RuleConfigurationChangedHandler(contextManager));
+    }
+    
+    @Override
+    public void onChange(final Collection<DataChangedEvent> events) {
+        OrderedServicesCache.clearCache();
+        MetaDataChangedHandler metaDataChangedHandler = new MetaDataChangedHandler(contextManager);
+        RuleConfigurationChangedHandler ruleConfigurationChangedHandler = new RuleConfigurationChangedHandler(contextManager);
+        for (DataChangedEvent each : events) {
+            Optional<String> databaseName = DatabaseMetaDataNodePath.findDatabaseName(each.getKey(), true);
+            if (!databaseName.isPresent()) {
+                continue;
+            }
+            try {
+                handle(databaseName.get(), each, metaDataChangedHandler, ruleConfigurationChangedHandler);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.error("Handle data changed event failed, key: {}.", each.getKey(), ex);
+            }
+        }
+    }
+    
+    private void handle(final String databaseName, final DataChangedEvent event,
+                        final MetaDataChangedHandler metaDataChangedHandler, final RuleConfigurationChangedHandler ruleConfigurationChangedHandler) {
+        if (metaDataChangedHandler.handle(databaseName, event)) {
             return;
         }
         try {
-            new RuleConfigurationChangedHandler(contextManager).handle(databaseName.get(), event);
+            ruleConfigurationChangedHandler.handle(databaseName, event);
         } catch (final SQLException ex) {
             throw new SQLWrapperException(ex);
         }
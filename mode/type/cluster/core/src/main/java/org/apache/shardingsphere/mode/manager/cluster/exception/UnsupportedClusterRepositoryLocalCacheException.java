@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.exception;
+
+import org.apache.shardingsphere.infra.exception.core.external.sql.sqlstate.XOpenSQLState;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.ClusterSQLException;
+
+/**
+ * Unsupported cluster repository local cache exception.
+ */
+public final class UnsupportedClusterRepositoryLocalCacheException extends ClusterSQLException {
+    
+    private static final long serialVersionUID = 6181873095218411367L;
+    
+    public UnsupportedClusterRepositoryLocalCacheException(final String repositoryType) {
+        super(XOpenSQLState.FEATURE_NOT_SUPPORTED, 101, "Cluster persist repository '%s' does not support local cache.", repositoryType);
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.manager.cluster.persist.service;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.process.Process;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.lock.ProcessOperationLockRegistry;
+import org.apache.shardingsphere.infra.executor.sql.process.yaml.YamlProcess;
 import org.apache.shardingsphere.infra.executor.sql.process.yaml.YamlProcessList;
 import org.apache.shardingsphere.infra.executor.sql.process.yaml.swapper.YamlProcessListSwapper;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
@@ -29,8 +31,13 @@ import org.apache.shardingsphere.metadata.persist.node.ProcessNode;
 import org.apache.shardingsphere.mode.persist.service.divided.ProcessPersistService;
 import org.apache.shardingsphere.mode.spi.PersistRepository;
 
+import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,13 +50,15 @@ public final class ClusterProcessPersistService implements ProcessPersistService
     
     private final PersistRepository repository;
     
+    private volatile Map<String, String> processOwners = new ConcurrentHashMap<>();
+    
     @Override
     public Collection<Process> getProcessList() {
         String taskId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Collection<String> triggerPaths = getShowProcessListTriggerPaths(taskId);
         boolean isCompleted = false;
         try {
-            triggerPaths.forEach(each -> repository.persist(each, ""));
+            persistTriggerPaths(triggerPaths);
             isCompleted = ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(taskId, () -> isReady(triggerPaths));
             return getShowProcessListData(taskId);
         } finally {
@@ -62,10 +71,13 @@ public final class ClusterProcessPersistService implements ProcessPersistService
     
     private Collection<Process> getShowProcessListData(final String taskId) {
         YamlProcessList yamlProcessList = new YamlProcessList();
-        for (String each : repository.getChildrenKeys(ProcessNode.getProcessIdPath(taskId)).stream()
-                .map(each -> repository.query(ProcessNode.getProcessListInstancePath(taskId, each))).collect(Collectors.toList())) {
-            yamlProcessList.getProcesses().addAll(YamlEngine.unmarshal(each, YamlProcessList.class).getProcesses());
+        Map<String, String> owners = new ConcurrentHashMap<>();
+        for (String each : repository.getChildrenKeys(ProcessNode.getProcessIdPath(taskId))) {
+            Collection<YamlProcess> processes = YamlEngine.unmarshal(repository.query(ProcessNode.getProcessListInstancePath(taskId, each)), YamlProcessList.class).getProcesses();
+            processes.forEach(process -> owners.put(process.getId(), each));
+            yamlProcessList.getProcesses().addAll(processes);
         }
+        processOwners = owners;
         return new YamlProcessListSwapper().swapToObject(yamlProcessList);
     }
     
@@ -76,11 +88,15 @@ public final class ClusterProcessPersistService implements ProcessPersistService
     }
     
     @Override
-    public void killProcess(final String processId) {
+    public void killProcess(final String processId) throws SQLException {
+        if (null != ProcessRegistry.getInstance().get(processId)) {
+            ProcessRegistry.getInstance().kill(processId);
+            return;
+        }
         Collection<String> triggerPaths = getKillProcessTriggerPaths(processId);
         boolean isCompleted = false;
         try {
-            triggerPaths.forEach(each -> repository.persist(each, ""));
+            persistTriggerPaths(triggerPaths);
             isCompleted = ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(processId, () -> isReady(triggerPaths));
         } finally {
             if (!isCompleted) {
@@ -90,9 +106,16 @@ public final class ClusterProcessPersistService implements ProcessPersistService
     }
     
     private Collection<String> getKillProcessTriggerPaths(final String processId) {
-        return Stream.of(InstanceType.values())
-                .flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream().map(onlinePath -> ComputeNode.getProcessKillInstanceIdNodePath(onlinePath, processId)))
-                .collect(Collectors.toList());
+        String ownerInstanceId = processOwners.remove(processId);
+        Collection<String> onlineInstanceIds = Stream.of(InstanceType.values()).flatMap(each -> repository.getChildrenKeys(ComputeNode.getOnlineNodePath(each)).stream()).collect(Collectors.toList());
+        Collection<String> targetInstanceIds = null != ownerInstanceId && onlineInstanceIds.contains(ownerInstanceId) ? Collections.singletonList(ownerInstanceId) : onlineInstanceIds;
+        return targetInstanceIds.stream().map(each -> ComputeNode.getProcessKillInstanceIdNodePath(each, processId)).collect(Collectors.toList());
+    }
+    
+    private void persistTriggerPaths(final Collection<String> triggerPaths) {
+        Map<String, String> triggers = new LinkedHashMap<>(triggerPaths.size(), 1F);
+        triggerPaths.forEach(each -> triggers.put(each, ""));
+        repository.persist(triggers);
     }
     
     private boolean isReady(final Collection<String> paths) {
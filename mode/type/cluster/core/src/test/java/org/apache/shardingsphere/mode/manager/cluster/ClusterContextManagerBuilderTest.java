@@ -28,7 +28,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
 import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
 import org.apache.shardingsphere.mode.manager.cluster.exception.MissingRequiredClusterRepositoryConfigurationException;
+import org.apache.shardingsphere.mode.manager.cluster.exception.UnsupportedClusterRepositoryLocalCacheException;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +64,16 @@ class ClusterContextManagerBuilderTest {
         assertThrows(MissingRequiredClusterRepositoryConfigurationException.class, () -> builder.build(param, mock(EventBusContext.class)));
     }
     
+    @Test
+    void assertBuildWithUnsupportedLocalCache() {
+        ClusterPersistRepositoryConfiguration repositoryConfig = mock(ClusterPersistRepositoryConfiguration.class);
+        when(repositoryConfig.getType()).thenReturn("FIXTURE");
+        when(repositoryConfig.getProps()).thenReturn(PropertiesBuilder.build(new Property("local-cache-enabled", Boolean.TRUE.toString())));
+        ContextManagerBuilderParameter param = new ContextManagerBuilderParameter(new ModeConfiguration("CLUSTER", repositoryConfig),
+                Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), new Properties(), Collections.emptyList(), new ProxyInstanceMetaData("foo", 1), false);
+        assertThrows(UnsupportedClusterRepositoryLocalCacheException.class, () -> builder.build(param, mock(EventBusContext.class)));
+    }
+    
     @Test
     void assertBuildForJDBC() throws SQLException {
         assertBuild(new JDBCInstanceMetaData("foo", "foo_db"));
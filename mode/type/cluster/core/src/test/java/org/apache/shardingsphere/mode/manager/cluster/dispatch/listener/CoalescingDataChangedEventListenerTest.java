@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.dispatch.listener;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingDataChangedEventListenerTest {
+    
+    @Test
+    void assertOnChangeWithCoalescedEvents() throws InterruptedException {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchReleased = new CountDownLatch(1);
+        CountDownLatch allBatchesDispatched = new CountDownLatch(2);
+        List<Collection<DataChangedEvent>> actual = Collections.synchronizedList(new ArrayList<>());
+        DataChangedEventListener listener = new CoalescingDataChangedEventListener(new DataChangedEventListener() {
+            
+            @Override
+            public void onChange(final DataChangedEvent event) {
+            }
+            
+            @Override
+            public void onChange(final Collection<DataChangedEvent> events) {
+                actual.add(new ArrayList<>(events));
+                firstBatchStarted.countDown();
+                try {
+                    firstBatchReleased.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                allBatchesDispatched.countDown();
+            }
+        });
+        listener.onChange(new DataChangedEvent("/foo", "0", Type.ADDED));
+        assertTrue(firstBatchStarted.await(5L, TimeUnit.SECONDS));
+        listener.onChange(new DataChangedEvent("/bar", "0", Type.ADDED));
+        listener.onChange(new DataChangedEvent("/foo", "1", Type.UPDATED));
+        listener.onChange(new DataChangedEvent("/bar", "1", Type.UPDATED));
+        firstBatchReleased.countDown();
+        assertTrue(allBatchesDispatched.await(5L, TimeUnit.SECONDS));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(1));
+        List<DataChangedEvent> coalescedEvents = new ArrayList<>(actual.get(1));
+        assertThat(coalescedEvents.size(), is(2));
+        assertThat(coalescedEvents.get(0).getKey(), is("/foo"));
+        assertThat(coalescedEvents.get(0).getValue(), is("1"));
+        assertThat(coalescedEvents.get(1).getKey(), is("/bar"));
+        assertThat(coalescedEvents.get(1).getValue(), is("1"));
+    }
+}
@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.mode.manager.cluster.dispatch.listener;
 
 import org.apache.shardingsphere.mode.manager.ContextManager;
-import org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.type.DatabaseMetaDataChangedListener;
-import org.apache.shardingsphere.mode.manager.cluster.dispatch.listener.type.GlobalMetaDataChangedListener;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.junit.jupiter.api.Test;
 
@@ -43,7 +41,7 @@ class DataChangedEventListenerRegistryTest {
         when(contextManager.getPersistServiceFacade().getRepository()).thenReturn(repository);
         DataChangedEventListenerRegistry registry = new DataChangedEventListenerRegistry(contextManager, Collections.singleton("foo_db"));
         registry.register();
-        verify(repository).watch(eq("/metadata/foo_db"), any(DatabaseMetaDataChangedListener.class));
-        verify(repository, atLeastOnce()).watch(anyString(), any(GlobalMetaDataChangedListener.class));
+        verify(repository).watch(eq("/metadata/foo_db"), any(CoalescingDataChangedEventListener.class));
+        verify(repository, atLeastOnce()).watch(anyString(), any(OrderedDataChangedEventListener.class));
     }
 }
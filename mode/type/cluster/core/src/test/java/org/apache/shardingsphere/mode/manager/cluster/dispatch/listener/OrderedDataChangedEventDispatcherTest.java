@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.dispatch.listener;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderedDataChangedEventDispatcherTest {
+    
+    @Test
+    void assertDispatchInReceivedOrder() throws InterruptedException {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch firstBatchReleased = new CountDownLatch(1);
+        CountDownLatch allEventsDispatched = new CountDownLatch(1);
+        List<String> actual = Collections.synchronizedList(new ArrayList<>());
+        DataChangedEventListener databaseListener = new DataChangedEventListener() {
+            
+            @Override
+            public void onChange(final DataChangedEvent event) {
+            }
+            
+            @Override
+            public void onChange(final Collection<DataChangedEvent> events) {
+                events.forEach(each -> actual.add(each.getKey() + "=" + each.getValue()));
+                firstBatchStarted.countDown();
+                try {
+                    firstBatchReleased.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                if (actual.contains("/global=1")) {
+                    allEventsDispatched.countDown();
+                }
+            }
+        };
+        DataChangedEventListener globalListener = event -> actual.add(event.getKey() + "=" + event.getValue());
+        OrderedDataChangedEventDispatcher.dispatch(databaseListener, new DataChangedEvent("/foo", "0", Type.ADDED), true);
+        assertTrue(firstBatchStarted.await(5L, TimeUnit.SECONDS));
+        OrderedDataChangedEventDispatcher.dispatch(databaseListener, new DataChangedEvent("/foo", "1", Type.UPDATED), true);
+        OrderedDataChangedEventDispatcher.dispatch(databaseListener, new DataChangedEvent("/foo", "2", Type.UPDATED), true);
+        OrderedDataChangedEventDispatcher.dispatch(globalListener, new DataChangedEvent("/global", "1", Type.UPDATED), false);
+        OrderedDataChangedEventDispatcher.dispatch(databaseListener, new DataChangedEvent("/foo", "3", Type.UPDATED), true);
+        firstBatchReleased.countDown();
+        assertTrue(allEventsDispatched.await(5L, TimeUnit.SECONDS));
+        assertThat(actual, is(Arrays.asList("/foo=0", "/foo=2", "/global=1", "/foo=3")));
+    }
+}
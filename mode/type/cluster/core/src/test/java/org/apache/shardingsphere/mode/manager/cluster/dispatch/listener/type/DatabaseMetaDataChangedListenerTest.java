@@ -27,6 +27,8 @@ import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -61,4 +63,11 @@ class DatabaseMetaDataChangedListenerTest {
         listener.onChange(new DataChangedEvent("/metadata/foo_db/schemas/foo_schema/rule/", "value", Type.ADDED));
         verify(contextManager.getComputeNodeInstanceContext().getEventBusContext(), times(0)).post(any());
     }
+    
+    @Test
+    void assertOnChangeInBatch() {
+        listener.onChange(Arrays.asList(new DataChangedEvent("/metadata", "value", Type.IGNORED),
+                new DataChangedEvent("/metadata/foo_db/schemas/foo_schema", "value", Type.ADDED), new DataChangedEvent("/metadata/foo_db/schemas/foo_schema/rule/", "value", Type.ADDED)));
+        verify(contextManager.getComputeNodeInstanceContext().getEventBusContext(), times(0)).post(any());
+    }
 }
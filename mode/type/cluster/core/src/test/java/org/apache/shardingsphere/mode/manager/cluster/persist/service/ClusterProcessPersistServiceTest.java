@@ -31,16 +31,21 @@ import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.contains;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -80,7 +85,8 @@ class ClusterProcessPersistServiceTest {
         Collection<Process> actual = processPersistService.getProcessList();
         assertThat(actual.size(), is(1));
         assertThat(actual.iterator().next().getId(), is("foo_process_id"));
-        verify(repository).persist(contains("/nodes/compute_nodes/show_process_list_trigger/abc:"), eq(""));
+        verify(repository).persist(ArgumentMatchers.<Map<String, String>>argThat(
+                argument -> 1 == argument.size() && argument.keySet().iterator().next().startsWith("/nodes/compute_nodes/show_process_list_trigger/abc:")));
         verify(repository).delete(contains("/execution_nodes/"));
     }
     
@@ -94,22 +100,54 @@ class ClusterProcessPersistServiceTest {
     }
     
     @Test
-    void assertKillCompletedProcess() {
+    void assertKillCompletedProcess() throws SQLException {
         when(ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(any(), any())).thenReturn(true);
         assertKillProcess();
         verify(repository, times(0)).delete("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id");
     }
     
     @Test
-    void assertKillUncompletedProcess() {
+    void assertKillUncompletedProcess() throws SQLException {
         assertKillProcess();
         verify(repository).delete("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id");
     }
     
-    private void assertKillProcess() {
+    private void assertKillProcess() throws SQLException {
+        when(ProcessRegistry.getInstance().get("foo_process_id")).thenReturn(null);
         when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.JDBC))).thenReturn(Collections.emptyList());
         when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY))).thenReturn(Collections.singletonList("abc"));
         processPersistService.killProcess("foo_process_id");
-        verify(repository).persist("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id", "");
+        verify(repository).persist(Collections.singletonMap("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id", ""));
+    }
+    
+    @Test
+    void assertKillLocalProcess() throws SQLException {
+        when(ProcessRegistry.getInstance().get("foo_process_id")).thenReturn(mock(Process.class));
+        processPersistService.killProcess("foo_process_id");
+        verify(ProcessRegistry.getInstance()).kill("foo_process_id");
+        verify(repository, times(0)).persist(any());
+    }
+    
+    @Test
+    void assertKillProcessOfKnownInstance() throws SQLException {
+        when(ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(any(), any())).thenReturn(true);
+        assertGetProcessList();
+        when(ProcessRegistry.getInstance().get("foo_process_id")).thenReturn(null);
+        when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY))).thenReturn(Arrays.asList("abc", "def"));
+        processPersistService.killProcess("foo_process_id");
+        verify(repository).persist(Collections.singletonMap("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id", ""));
+        processPersistService.killProcess("foo_process_id");
+        verify(repository).persist(ArgumentMatchers.<Map<String, String>>argThat(argument -> argument.keySet().equals(
+                new HashSet<>(Arrays.asList("/nodes/compute_nodes/kill_process_trigger/abc:foo_process_id", "/nodes/compute_nodes/kill_process_trigger/def:foo_process_id")))));
+    }
+    
+    @Test
+    void assertKillProcessOfOfflineKnownInstance() throws SQLException {
+        when(ProcessOperationLockRegistry.getInstance().waitUntilReleaseReady(any(), any())).thenReturn(true);
+        assertGetProcessList();
+        when(ProcessRegistry.getInstance().get("foo_process_id")).thenReturn(null);
+        when(repository.getChildrenKeys(ComputeNode.getOnlineNodePath(InstanceType.PROXY))).thenReturn(Collections.singletonList("def"));
+        processPersistService.killProcess("foo_process_id");
+        verify(repository).persist(Collections.singletonMap("/nodes/compute_nodes/kill_process_trigger/def:foo_process_id", ""));
     }
 }
@@ -65,4 +65,21 @@ public interface ClusterPersistRepository extends PersistRepository {
      * @param key key to be removed
      */
     void removeDataListener(String key);
+    
+    /**
+     * Judge whether connection interrupted listener is supported.
+     *
+     * @return is connection interrupted listener supported or not
+     */
+    default boolean isConnectionInterruptedListenerSupported() {
+        return false;
+    }
+    
+    /**
+     * Add listener fired when connection of governance server is interrupted, data changed events may be missed meanwhile.
+     *
+     * @param listener connection interrupted listener
+     */
+    default void addConnectionInterruptedListener(final Runnable listener) {
+    }
 }
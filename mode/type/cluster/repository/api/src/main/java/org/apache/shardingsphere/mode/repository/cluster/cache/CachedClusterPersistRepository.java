@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cluster persist repository with local read-through cache.
+ *
+ * <p>Only keys under watched paths are cached after initial data of the watch are loaded, they are invalidated by data changed events of the watch,
+ * by writes through this repository and by connection interruption, so the delegated repository must support connection interrupted listener.</p>
+ */
+public final class CachedClusterPersistRepository implements ClusterPersistRepository {
+    
+    /**
+     * Key of cluster persist repository property to enable local cache.
+     */
+    public static final String LOCAL_CACHE_ENABLED_KEY = "local-cache-enabled";
+    
+    private final ClusterPersistRepository delegate;
+    
+    private final Map<String, CacheInvalidationDataChangedEventListener> listeners = new ConcurrentHashMap<>();
+    
+    private final Collection<String> watchedKeys = new ConcurrentSkipListSet<>();
+    
+    private final NavigableMap<String, Optional<String>> values = new ConcurrentSkipListMap<>();
+    
+    private final NavigableMap<String, List<String>> childrenKeys = new ConcurrentSkipListMap<>();
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    public CachedClusterPersistRepository(final ClusterPersistRepository delegate) {
+        this.delegate = delegate;
+        delegate.addConnectionInterruptedListener(this::invalidateAll);
+    }
+    
+    @Override
+    public void init(final ClusterPersistRepositoryConfiguration config, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        delegate.init(config, computeNodeInstanceContext);
+    }
+    
+    @Override
+    public String query(final String key) {
+        return getCached(values, key, () -> Optional.ofNullable(delegate.query(key))).orElse(null);
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        return new ArrayList<>(getCached(childrenKeys, key, () -> new ArrayList<>(delegate.getChildrenKeys(key))));
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return isCacheable(key) ? null != query(key) : delegate.isExisted(key);
+    }
+    
+    private <T> T getCached(final Map<String, T> cache, final String key, final Supplier<T> loader) {
+        if (!isCacheable(key)) {
+            return loader.get();
+        }
+        T result = cache.get(key);
+        if (null != result) {
+            hitCount.incrementAndGet();
+            return result;
+        }
+        missCount.incrementAndGet();
+        long loadingGeneration = generation.get();
+        result = loader.get();
+        cache.put(key, result);
+        if (loadingGeneration != generation.get()) {
+            // Data may be changed during loading, the loaded result must not stay in cache.
+            cache.remove(key);
+        }
+        return result;
+    }
+    
+    private boolean isCacheable(final String key) {
+        for (String each : watchedKeys) {
+            if (key.equals(each) || key.startsWith(each + PATH_SEPARATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        delegate.persist(key, value);
+        invalidate(key, false);
+    }
+    
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        delegate.persist(keyValues);
+        keyValues.keySet().forEach(each -> invalidate(each, false));
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        delegate.persistEphemeral(key, value);
+        invalidate(key, true);
+    }
+    
+    @Override
+    public boolean persistExclusiveEphemeral(final String key, final String value) {
+        boolean result = delegate.persistExclusiveEphemeral(key, value);
+        invalidate(key, false);
+        return result;
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        delegate.update(key, value);
+        invalidate(key, false);
+    }
+    
+    @Override
+    public void delete(final String key) {
+        delegate.delete(key);
+        invalidate(key, true);
+    }
+    
+    @Override
+    public DistributedLockHolder getDistributedLockHolder() {
+        return delegate.getDistributedLockHolder();
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener) {
+        CacheInvalidationDataChangedEventListener cacheInvalidationListener = new CacheInvalidationDataChangedEventListener(key, listener);
+        listeners.putIfAbsent(key, cacheInvalidationListener);
+        delegate.watch(key, cacheInvalidationListener);
+    }
+    
+    @Override
+    public void removeDataListener(final String key) {
+        listeners.remove(key);
+        watchedKeys.remove(key);
+        delegate.removeDataListener(key);
+        invalidate(key, true);
+    }
+    
+    @Override
+    public boolean isConnectionInterruptedListenerSupported() {
+        return delegate.isConnectionInterruptedListenerSupported();
+    }
+    
+    @Override
+    public void addConnectionInterruptedListener(final Runnable listener) {
+        delegate.addConnectionInterruptedListener(listener);
+    }
+    
+    private void invalidate(final String key, final boolean withDescendants) {
+        generation.incrementAndGet();
+        values.remove(key);
+        childrenKeys.remove(key);
+        if (withDescendants) {
+            values.subMap(key + PATH_SEPARATOR, key + PATH_SEPARATOR + Character.MAX_VALUE).clear();
+            childrenKeys.subMap(key + PATH_SEPARATOR, key + PATH_SEPARATOR + Character.MAX_VALUE).clear();
+        }
+        // Ancestors may be created or removed together with the key.
+        for (int index = key.lastIndexOf(PATH_SEPARATOR); index > 0; index = key.lastIndexOf(PATH_SEPARATOR, index - 1)) {
+            String ancestor = key.substring(0, index);
+            values.remove(ancestor);
+            childrenKeys.remove(ancestor);
+        }
+    }
+    
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        values.clear();
+        childrenKeys.clear();
+    }
+    
+    /**
+     * Get cache hit count.
+     *
+     * @return cache hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get cache miss count.
+     *
+     * @return cache miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get cache hit rate.
+     *
+     * @return cache hit rate, 0 if cache is never read
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return 0L == total ? 0D : (double) hits / total;
+    }
+    
+    @Override
+    public void close() {
+        invalidateAll();
+        delegate.close();
+    }
+    
+    @Override
+    public Object getType() {
+        return delegate.getType();
+    }
+    
+    @RequiredArgsConstructor
+    private final class CacheInvalidationDataChangedEventListener implements DataChangedEventListener {
+        
+        private final String watchedKey;
+        
+        private final DataChangedEventListener listener;
+        
+        @Override
+        public void onChange(final DataChangedEvent event) {
+            invalidate(event.getKey(), Type.DELETED == event.getType());
+            listener.onChange(event);
+        }
+        
+        @Override
+        public void onChange(final Collection<DataChangedEvent> events) {
+            events.forEach(each -> invalidate(each.getKey(), Type.DELETED == each.getType()));
+            listener.onChange(events);
+        }
+        
+        @Override
+        public void onInitialized() {
+            if (this == listeners.get(watchedKey)) {
+                // Keys are cacheable only after the watch has caught up, otherwise changes during initialization could be missed.
+                watchedKeys.add(watchedKey);
+            }
+            listener.onInitialized();
+        }
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.mode.repository.cluster.listener;
 
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 
+import java.util.Collection;
+
 /**
  * Data changed listener.
  */
@@ -30,4 +32,19 @@ public interface DataChangedEventListener {
      * @param event data changed event
      */
     void onChange(DataChangedEvent event);
+    
+    /**
+     * Fire when data changed in batch.
+     *
+     * @param events data changed events in changed order
+     */
+    default void onChange(final Collection<DataChangedEvent> events) {
+        events.forEach(this::onChange);
+    }
+    
+    /**
+     * Fire when initial data of watched key are loaded.
+     */
+    default void onInitialized() {
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedClusterPersistRepositoryTest {
+    
+    @Mock
+    private ClusterPersistRepository delegate;
+    
+    private CachedClusterPersistRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CachedClusterPersistRepository(delegate);
+    }
+    
+    @Test
+    void assertQueryWithoutWatch() {
+        when(delegate.query("/foo/bar")).thenReturn("foo_value");
+        assertThat(repository.query("/foo/bar"), is("foo_value"));
+        assertThat(repository.query("/foo/bar"), is("foo_value"));
+        verify(delegate, times(2)).query("/foo/bar");
+        assertThat(repository.getHitCount(), is(0L));
+    }
+    
+    @Test
+    void assertQueryWithWatch() {
+        watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.query("/foo/bar")).thenReturn("foo_value");
+        assertThat(repository.query("/foo/bar"), is("foo_value"));
+        assertThat(repository.query("/foo/bar"), is("foo_value"));
+        assertThat(repository.isExisted("/foo/bar"), is(true));
+        verify(delegate).query("/foo/bar");
+        assertThat(repository.getHitCount(), is(2L));
+        assertThat(repository.getMissCount(), is(1L));
+        assertThat(repository.getHitRate(), is(2D / 3));
+    }
+    
+    @Test
+    void assertQueryWithWatchBeforeInitialized() {
+        repository.watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.query("/foo/bar")).thenReturn("foo_value");
+        repository.query("/foo/bar");
+        repository.query("/foo/bar");
+        verify(delegate, times(2)).query("/foo/bar");
+        assertThat(repository.getMissCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetChildrenKeysWithWatch() {
+        watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.getChildrenKeys("/foo")).thenReturn(Arrays.asList("bar", "baz"));
+        assertThat(repository.getChildrenKeys("/foo"), is(Arrays.asList("bar", "baz")));
+        assertThat(repository.getChildrenKeys("/foo"), is(Arrays.asList("bar", "baz")));
+        verify(delegate).getChildrenKeys("/foo");
+    }
+    
+    @Test
+    void assertInvalidateByDataChangedEvent() {
+        DataChangedEventListener listener = mock(DataChangedEventListener.class);
+        DataChangedEventListener cacheInvalidationListener = watch("/foo", listener);
+        when(delegate.query("/foo/bar")).thenReturn("foo_value", "bar_value");
+        when(delegate.getChildrenKeys("/foo")).thenReturn(Collections.singletonList("bar"), Collections.emptyList());
+        repository.query("/foo/bar");
+        repository.getChildrenKeys("/foo");
+        DataChangedEvent event = new DataChangedEvent("/foo/bar", "bar_value", Type.DELETED);
+        cacheInvalidationListener.onChange(event);
+        verify(listener).onChange(event);
+        assertThat(repository.query("/foo/bar"), is("bar_value"));
+        assertThat(repository.getChildrenKeys("/foo"), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertInvalidateByPersist() {
+        watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.query("/foo/bar")).thenReturn("foo_value", "bar_value");
+        repository.query("/foo/bar");
+        repository.persist("/foo/bar", "bar_value");
+        verify(delegate).persist("/foo/bar", "bar_value");
+        assertThat(repository.query("/foo/bar"), is("bar_value"));
+    }
+    
+    @Test
+    void assertInvalidateDescendantsByDelete() {
+        watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.query("/foo/bar/baz")).thenReturn("foo_value", (String) null);
+        repository.query("/foo/bar/baz");
+        repository.delete("/foo/bar");
+        verify(delegate).delete("/foo/bar");
+        assertThat(repository.isExisted("/foo/bar/baz"), is(false));
+    }
+    
+    @Test
+    void assertInvalidateByConnectionInterrupted() {
+        ArgumentCaptor<Runnable> listenerCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(delegate).addConnectionInterruptedListener(listenerCaptor.capture());
+        watch("/foo", mock(DataChangedEventListener.class));
+        when(delegate.query("/foo/bar")).thenReturn("foo_value", "bar_value");
+        repository.query("/foo/bar");
+        listenerCaptor.getValue().run();
+        assertThat(repository.query("/foo/bar"), is("bar_value"));
+    }
+    
+    @Test
+    void assertInitializeAfterRemoveDataListener() {
+        DataChangedEventListener listener = mock(DataChangedEventListener.class);
+        repository.watch("/foo", listener);
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(delegate).watch(eq("/foo"), listenerCaptor.capture());
+        repository.removeDataListener("/foo");
+        listenerCaptor.getValue().onInitialized();
+        verify(listener).onInitialized();
+        when(delegate.query("/foo/bar")).thenReturn("foo_value");
+        repository.query("/foo/bar");
+        repository.query("/foo/bar");
+        verify(delegate, times(2)).query("/foo/bar");
+    }
+    
+    @Test
+    void assertRemoveDataListener() {
+        watch("/foo", mock(DataChangedEventListener.class));
+        repository.removeDataListener("/foo");
+        verify(delegate).removeDataListener("/foo");
+        when(delegate.query("/foo/bar")).thenReturn("foo_value");
+        repository.query("/foo/bar");
+        repository.query("/foo/bar");
+        verify(delegate, times(2)).query("/foo/bar");
+    }
+    
+    private DataChangedEventListener watch(final String key, final DataChangedEventListener listener) {
+        repository.watch(key, listener);
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(delegate).watch(eq(key), listenerCaptor.capture());
+        listenerCaptor.getValue().onInitialized();
+        return listenerCaptor.getValue();
+    }
+}
@@ -24,6 +24,7 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -46,7 +47,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -59,6 +65,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 128;
+    
+    private static final int MAX_TRANSACTION_BYTES = 1024 * 1024;
+    
     private static final ExecutorService EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Etcd-EventListener-%d").build());
     
     private Client client;
@@ -112,6 +122,33 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        Collection<String> builtPaths = new HashSet<>();
+        List<Op> operations = new LinkedList<>();
+        int transactionBytes = 0;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            ByteSequence value = ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8);
+            if (operations.size() >= MAX_TRANSACTION_OPERATIONS || transactionBytes + value.size() > MAX_TRANSACTION_BYTES) {
+                commitTransaction(operations);
+                operations = new LinkedList<>();
+                transactionBytes = 0;
+            }
+            buildParentPath(entry.getKey(), builtPaths);
+            builtPaths.add(entry.getKey());
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), value, PutOption.DEFAULT));
+            transactionBytes += value.size();
+        }
+        commitTransaction(operations);
+    }
+    
+    private void commitTransaction(final List<Op> operations) throws ExecutionException, InterruptedException {
+        if (!operations.isEmpty()) {
+            client.getKVClient().txn().Then(operations.toArray(new Op[0])).commit().get();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
@@ -134,12 +171,19 @@ public final class EtcdRepository implements ClusterPersistRepository {
     }
     
     private void buildParentPath(final String key) throws ExecutionException, InterruptedException {
+        buildParentPath(key, new HashSet<>());
+    }
+    
+    private void buildParentPath(final String key, final Collection<String> builtPaths) throws ExecutionException, InterruptedException {
         StringBuilder parentPath = new StringBuilder();
         String[] partPath = key.split(PATH_SEPARATOR);
         for (int index = 1; index < partPath.length - 1; index++) {
             parentPath.append(PATH_SEPARATOR);
             parentPath.append(partPath[index]);
             String path = parentPath.toString();
+            if (!builtPaths.add(path)) {
+                continue;
+            }
             List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(path, StandardCharsets.UTF_8)).get().getKvs();
             if (keyValues.isEmpty()) {
                 client.getKVClient().put(ByteSequence.from(path, StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8)).get();
@@ -22,10 +22,13 @@ import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Lease;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -47,8 +50,10 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -212,6 +217,21 @@ class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    void assertPersistInBatch() {
+        Txn txn = mock(Txn.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(mock(TxnResponse.class)));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/foo/key1", "value1");
+        keyValues.put("/foo/key2", "value2");
+        repository.persist(keyValues);
+        verify(kv).put(ByteSequence.from("/foo", StandardCharsets.UTF_8), ByteSequence.from("", StandardCharsets.UTF_8));
+        verify(txn).Then(any(Op.class), any(Op.class));
+        verify(txn).commit();
+    }
+    
     @Test
     void assertClose() {
         repository.close();
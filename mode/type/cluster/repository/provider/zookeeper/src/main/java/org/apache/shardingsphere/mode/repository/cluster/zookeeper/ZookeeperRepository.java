@@ -19,14 +19,18 @@ package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
+import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.event.DataChangedEvent;
 import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
@@ -47,10 +51,16 @@ import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -59,8 +69,13 @@ import java.util.concurrent.TimeUnit;
 /**
  * Registry repository of ZooKeeper.
  */
+@Slf4j
 public final class ZookeeperRepository implements ClusterPersistRepository {
     
+    private static final int MAX_TRANSACTION_OPERATIONS = 1000;
+    
+    private static final int MAX_TRANSACTION_BYTES = 512 * 1024;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Map<String, CuratorCacheListener> dataListeners = new ConcurrentHashMap<>();
@@ -160,6 +175,81 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public void persist(final Map<String, String> keyValues) {
+        try {
+            Map<String, Collection<String>> childrenCache = new HashMap<>();
+            List<CuratorOp> operations = new LinkedList<>();
+            Map<String, String> transactionKeyValues = new LinkedHashMap<>();
+            int transactionBytes = 0;
+            for (Entry<String, String> entry : keyValues.entrySet()) {
+                byte[] data = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                if (operations.size() >= MAX_TRANSACTION_OPERATIONS || transactionBytes + data.length > MAX_TRANSACTION_BYTES) {
+                    commitTransaction(operations, transactionKeyValues, childrenCache);
+                    operations = new LinkedList<>();
+                    transactionKeyValues = new LinkedHashMap<>();
+                    transactionBytes = 0;
+                }
+                if (isExisted(entry.getKey(), childrenCache)) {
+                    operations.add(client.transactionOp().setData().forPath(entry.getKey(), data));
+                } else {
+                    addCreateParentOperations(ZKPaths.getPathAndNode(entry.getKey()).getPath(), childrenCache, operations);
+                    operations.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), data));
+                    markCreated(entry.getKey(), childrenCache);
+                }
+                transactionKeyValues.put(entry.getKey(), entry.getValue());
+                transactionBytes += data.length;
+            }
+            commitTransaction(operations, transactionKeyValues, childrenCache);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            ZookeeperExceptionHandler.handleException(ex);
+        }
+    }
+    
+    private void addCreateParentOperations(final String parentPath, final Map<String, Collection<String>> childrenCache, final List<CuratorOp> operations) throws Exception {
+        if (isExisted(parentPath, childrenCache)) {
+            return;
+        }
+        addCreateParentOperations(ZKPaths.getPathAndNode(parentPath).getPath(), childrenCache, operations);
+        operations.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(parentPath, new byte[0]));
+        markCreated(parentPath, childrenCache);
+    }
+    
+    private boolean isExisted(final String path, final Map<String, Collection<String>> childrenCache) throws Exception {
+        return PATH_SEPARATOR.equals(path) || getChildren(ZKPaths.getPathAndNode(path).getPath(), childrenCache).contains(ZKPaths.getNodeFromPath(path));
+    }
+    
+    private Collection<String> getChildren(final String path, final Map<String, Collection<String>> childrenCache) throws Exception {
+        Collection<String> result = childrenCache.get(path);
+        if (null == result) {
+            // Children of a missing node are missing as well, so only existing parents cost one round trip per batch.
+            result = isExisted(path, childrenCache) ? new HashSet<>(client.getChildren().forPath(path)) : new HashSet<>();
+            childrenCache.put(path, result);
+        }
+        return result;
+    }
+    
+    private void markCreated(final String path, final Map<String, Collection<String>> childrenCache) throws Exception {
+        getChildren(ZKPaths.getPathAndNode(path).getPath(), childrenCache).add(ZKPaths.getNodeFromPath(path));
+        childrenCache.put(path, new HashSet<>());
+    }
+    
+    private void commitTransaction(final List<CuratorOp> operations, final Map<String, String> keyValues, final Map<String, Collection<String>> childrenCache) throws Exception {
+        if (operations.isEmpty()) {
+            return;
+        }
+        try {
+            client.transaction().forOperations(operations);
+        } catch (final KeeperException ex) {
+            // The whole transaction is rolled back if any node is changed concurrently, so nodes marked as created are unknown and each key is persisted on its own.
+            log.warn("Persist {} keys in transaction failed, persist them one by one.", keyValues.size(), ex);
+            childrenCache.clear();
+            keyValues.forEach(this::persist);
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -255,6 +345,7 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
                     }
                 })
                 .forDeletes(oldData -> listener.onChange(new DataChangedEvent(oldData.getPath(), new String(oldData.getData(), StandardCharsets.UTF_8), Type.DELETED)))
+                .forInitialized(listener::onInitialized)
                 .afterInitialized()
                 .build();
         cache.listenable().addListener(curatorCacheListener);
@@ -271,6 +362,20 @@ public final class ZookeeperRepository implements ClusterPersistRepository {
         Optional.ofNullable(caches.remove(key)).ifPresent(optional -> optional.listenable().removeListener(cacheListener));
     }
     
+    @Override
+    public boolean isConnectionInterruptedListenerSupported() {
+        return true;
+    }
+    
+    @Override
+    public void addConnectionInterruptedListener(final Runnable listener) {
+        client.getConnectionStateListenable().addListener((curatorFramework, connectionState) -> {
+            if (ConnectionState.CONNECTED != connectionState) {
+                listener.run();
+            }
+        });
+    }
+    
     @Override
     public void close() {
         caches.values().forEach(CuratorCache::close);
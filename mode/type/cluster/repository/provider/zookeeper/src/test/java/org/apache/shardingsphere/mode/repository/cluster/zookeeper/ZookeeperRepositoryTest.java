@@ -21,6 +21,7 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -29,6 +30,11 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
@@ -39,6 +45,7 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.Zookeep
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,7 +59,9 @@ import org.mockito.quality.Strictness;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
@@ -62,9 +71,12 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -160,6 +172,81 @@ class ZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPersistInBatch() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("batch"));
+        when(getChildrenBuilder.forPath("/test/batch")).thenReturn(Collections.singletonList("bar"));
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        ACLPathAndBytesable<CuratorOp> transactionCreatePathAndBytesable = mock(ACLPathAndBytesable.class);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePathAndBytesable);
+        TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/batch/foo", "foo_value");
+        keyValues.put("/test/batch/bar", "bar_value");
+        REPOSITORY.persist(keyValues);
+        verify(transactionCreatePathAndBytesable).forPath("/test/batch/foo", "foo_value".getBytes(StandardCharsets.UTF_8));
+        verify(transactionSetDataBuilder).forPath("/test/batch/bar", "bar_value".getBytes(StandardCharsets.UTF_8));
+        verify(transaction).forOperations(argThat((List<CuratorOp> operations) -> 2 == operations.size()));
+        verify(existsBuilder, never()).forPath(anyString());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPersistInBatchWithTransactionFailure() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("batch"));
+        when(getChildrenBuilder.forPath("/test/batch")).thenReturn(Collections.singletonList("bar"));
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(mock(ACLPathAndBytesable.class));
+        when(transactionOp.setData()).thenReturn(mock(TransactionSetDataBuilder.class));
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(transaction.forOperations(anyList())).thenThrow(new NodeExistsException("/test/batch/foo"));
+        when(client.transaction()).thenReturn(transaction);
+        when(existsBuilder.forPath("/test/batch/bar")).thenReturn(new Stat());
+        when(protect.withMode(CreateMode.PERSISTENT)).thenReturn(protect);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/batch/foo", "foo_value");
+        keyValues.put("/test/batch/bar", "bar_value");
+        REPOSITORY.persist(keyValues);
+        verify(protect).forPath("/test/batch/foo", "foo_value".getBytes(StandardCharsets.UTF_8));
+        verify(setDataBuilder).forPath("/test/batch/bar", "bar_value".getBytes(StandardCharsets.UTF_8));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPersistInBatchWithMissingParent() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.emptyList());
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        ACLPathAndBytesable<CuratorOp> transactionCreatePathAndBytesable = mock(ACLPathAndBytesable.class);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreatePathAndBytesable);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1F);
+        keyValues.put("/test/batch/foo", "foo_value");
+        keyValues.put("/test/batch/bar", "bar_value");
+        REPOSITORY.persist(keyValues);
+        verify(transactionCreatePathAndBytesable).forPath("/test/batch", new byte[0]);
+        verify(transactionCreatePathAndBytesable).forPath("/test/batch/foo", "foo_value".getBytes(StandardCharsets.UTF_8));
+        verify(transactionCreatePathAndBytesable).forPath("/test/batch/bar", "bar_value".getBytes(StandardCharsets.UTF_8));
+        verify(transaction).forOperations(argThat((List<CuratorOp> operations) -> 3 == operations.size()));
+        verify(getChildrenBuilder, never()).forPath("/test/batch");
+    }
+    
     @Test
     void assertPersistEphemeralNotExist() throws Exception {
         when(protect.withMode(CreateMode.EPHEMERAL)).thenReturn(protect);
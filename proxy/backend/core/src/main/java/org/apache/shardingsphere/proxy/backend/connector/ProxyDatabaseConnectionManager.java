@@ -152,11 +152,20 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
         for (Connection each : connections) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachSetSQL : setSQLs) {
-                    statement.execute(eachSetSQL);
-                }
+            executeSessionVariableSQLs(each, setSQLs);
+        }
+    }
+    
+    private void executeSessionVariableSQLs(final Connection connection, final List<String> sqls) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (1 == sqls.size()) {
+                statement.execute(sqls.get(0));
+                return;
+            }
+            for (String each : sqls) {
+                statement.addBatch(each);
             }
+            statement.executeBatch();
         }
     }
     
@@ -352,10 +361,8 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
         }
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
         for (Connection each : values) {
-            try (Statement statement = each.createStatement()) {
-                for (String eachResetSQL : resetSQLs) {
-                    statement.execute(eachResetSQL);
-                }
+            try {
+                executeSessionVariableSQLs(each, resetSQLs);
             } catch (final SQLException ex) {
                 exceptions.add(ex);
             }
@@ -255,6 +255,21 @@ class ProxyDatabaseConnectionManagerTest {
         verify(actualConnection.createStatement()).execute("SET key=value");
     }
     
+    @Test
+    void assertGetConnectionsAndReplayMultipleSessionVariablesInBatch() throws SQLException {
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("foo_key", "foo_value");
+        connectionSession.getRequiredSessionVariableRecorder().setVariable("bar_key", "bar_value");
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(proxyContext.getBackendDataSource().getConnections(anyString(), anyString(), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
+        Connection actualConnection = databaseConnectionManager.getConnections("foo_db", "", 0, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        verify(actualConnection.createStatement()).addBatch("SET foo_key=foo_value");
+        verify(actualConnection.createStatement()).addBatch("SET bar_key=bar_value");
+        verify(actualConnection.createStatement()).executeBatch();
+    }
+    
     @Test
     void assertGetConnectionsAndFailedToReplaySessionVariables() throws SQLException {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "value");
@@ -24,20 +24,18 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerDomainSocketChannel;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.netty.FrontendTransportType;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -50,6 +48,10 @@ import java.util.List;
 @Slf4j
 public final class ShardingSphereProxy {
     
+    private final FrontendTransportType transportType;
+    
+    private final int acceptorSize;
+    
     private final EventLoopGroup bossGroup;
     
     private final EventLoopGroup workerGroup;
@@ -57,16 +59,14 @@ public final class ShardingSphereProxy {
     private boolean isClosed;
     
     public ShardingSphereProxy() {
-        bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
-        workerGroup = getWorkerGroup();
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        transportType = FrontendTransportType.of(props.getValue(ConfigurationPropertyKey.PROXY_NETTY_TRANSPORT));
+        acceptorSize = transportType.getBindCount(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_ACCEPTOR_SIZE));
+        bossGroup = transportType.createEventLoopGroup(acceptorSize);
+        workerGroup = transportType.createEventLoopGroup(props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE));
         Runtime.getRuntime().addShutdownHook(new Thread(this::close));
     }
     
-    private EventLoopGroup getWorkerGroup() {
-        int workerThreads = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_SIZE);
-        return Epoll.isAvailable() ? new EpollEventLoopGroup(workerThreads) : new NioEventLoopGroup(workerThreads);
-    }
-    
     /**
      * Start ShardingSphere-Proxy.
      *
@@ -89,8 +89,8 @@ public final class ShardingSphereProxy {
      * @param socketPath socket path
      */
     public void start(final String socketPath) {
-        if (!Epoll.isAvailable()) {
-            log.error("Epoll is unavailable, DomainSocket can't start.");
+        if (FrontendTransportType.EPOLL != transportType) {
+            log.error("Epoll transport is unused, DomainSocket can't start.");
             return;
         }
         ChannelFuture future = startDomainSocket(socketPath);
@@ -114,9 +114,11 @@ public final class ShardingSphereProxy {
     public List<ChannelFuture> startInternal(final int port, final List<String> addresses) throws InterruptedException {
         ServerBootstrap bootstrap = new ServerBootstrap();
         initServerBootstrap(bootstrap);
-        List<ChannelFuture> result = new ArrayList<>(addresses.size());
+        List<ChannelFuture> result = new ArrayList<>(addresses.size() * acceptorSize);
         for (String each : addresses) {
-            result.add(bootstrap.bind(each, port).sync());
+            for (int i = 0; i < acceptorSize; i++) {
+                result.add(bootstrap.bind(each, port).sync());
+            }
         }
         return result;
     }
@@ -135,17 +137,36 @@ public final class ShardingSphereProxy {
     }
     
     private void initServerBootstrap(final ServerBootstrap bootstrap) {
-        Integer backLog = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG);
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        PooledByteBufAllocator allocator = createAllocator(props);
         bootstrap.group(bossGroup, workerGroup)
-                .channel(Epoll.isAvailable() ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
-                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .channel(transportType.getServerChannelClass())
+                .option(ChannelOption.ALLOCATOR, allocator)
                 .option(ChannelOption.SO_REUSEADDR, true)
-                .option(ChannelOption.SO_BACKLOG, backLog)
-                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .option(ChannelOption.SO_BACKLOG, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG))
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, createWriteBufferWaterMark(props))
+                .childOption(ChannelOption.ALLOCATOR, allocator)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .handler(new LoggingHandler(LogLevel.INFO))
                 .childHandler(new ServerHandlerInitializer(FrontDatabaseProtocolTypeFactory.getDatabaseType()));
+        transportType.setTransportOptions(bootstrap, acceptorSize, props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_NETTY_TCP_QUICKACK));
+    }
+    
+    private PooledByteBufAllocator createAllocator(final ConfigurationProperties props) {
+        int directArenaSize = props.getValue(ConfigurationPropertyKey.PROXY_NETTY_DIRECT_ARENA_SIZE);
+        return directArenaSize > 0
+                ? new PooledByteBufAllocator(true, PooledByteBufAllocator.defaultNumHeapArena(), directArenaSize, PooledByteBufAllocator.defaultPageSize(), PooledByteBufAllocator.defaultMaxOrder(),
+                        PooledByteBufAllocator.defaultSmallCacheSize(), PooledByteBufAllocator.defaultNormalCacheSize(), PooledByteBufAllocator.defaultUseCacheForAllThreads())
+                : PooledByteBufAllocator.DEFAULT;
+    }
+    
+    private WriteBufferWaterMark createWriteBufferWaterMark(final ConfigurationProperties props) {
+        int lowWaterMark = props.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK);
+        int highWaterMark = props.getValue(ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK);
+        ShardingSpherePreconditions.checkState(lowWaterMark >= 0 && lowWaterMark <= highWaterMark, () -> new IllegalArgumentException(String.format(
+                "Property `%s` (%d) must not be negative or greater than `%s` (%d).", ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_LOW_WATER_MARK.getKey(), lowWaterMark,
+                ConfigurationPropertyKey.PROXY_NETTY_WRITE_BUFFER_HIGH_WATER_MARK.getKey(), highWaterMark)));
+        return new WriteBufferWaterMark(lowWaterMark, highWaterMark);
     }
     
     private void initServerBootstrap(final ServerBootstrap bootstrap, final DomainSocketAddress localDomainSocketAddress) {
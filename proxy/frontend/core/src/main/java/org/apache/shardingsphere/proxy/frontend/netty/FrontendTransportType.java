@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Frontend transport type.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum FrontendTransportType {
+    
+    EPOLL(EpollServerSocketChannel.class) {
+        
+        @Override
+        public EventLoopGroup createEventLoopGroup(final int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+        
+        @Override
+        public void setTransportOptions(final ServerBootstrap bootstrap, final int acceptorSize, final boolean tcpQuickAck) {
+            if (acceptorSize > 1) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, tcpQuickAck);
+        }
+    },
+    
+    NIO(NioServerSocketChannel.class) {
+        
+        @Override
+        public EventLoopGroup createEventLoopGroup(final int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+        
+        @Override
+        public void setTransportOptions(final ServerBootstrap bootstrap, final int acceptorSize, final boolean tcpQuickAck) {
+        }
+    };
+    
+    private final Class<? extends ServerChannel> serverChannelClass;
+    
+    /**
+     * Create event loop group.
+     *
+     * @param threads thread size, 0 means Netty default
+     * @return created event loop group
+     */
+    public abstract EventLoopGroup createEventLoopGroup(int threads);
+    
+    /**
+     * Set transport specific options.
+     *
+     * @param bootstrap server bootstrap
+     * @param acceptorSize acceptor size
+     * @param tcpQuickAck whether to enable TCP_QUICKACK on accepted connections
+     */
+    public abstract void setTransportOptions(ServerBootstrap bootstrap, int acceptorSize, boolean tcpQuickAck);
+    
+    /**
+     * Get acceptor bind count for each address.
+     *
+     * @param acceptorSize configured acceptor size
+     * @return bind count of each address
+     */
+    public int getBindCount(final int acceptorSize) {
+        return EPOLL == this ? Math.max(acceptorSize, 1) : 1;
+    }
+    
+    /**
+     * Get frontend transport type by configured value.
+     *
+     * @param configuredValue configured value, AUTO means EPOLL if available, otherwise NIO
+     * @return frontend transport type
+     */
+    public static FrontendTransportType of(final String configuredValue) {
+        if ("AUTO".equalsIgnoreCase(configuredValue)) {
+            return Epoll.isAvailable() ? EPOLL : NIO;
+        }
+        ShardingSpherePreconditions.checkState(Arrays.stream(values()).anyMatch(each -> each.name().equalsIgnoreCase(configuredValue)),
+                () -> new IllegalArgumentException(String.format("Property `%s` (%s) is invalid, supported values are AUTO, %s.",
+                        ConfigurationPropertyKey.PROXY_NETTY_TRANSPORT.getKey(), configuredValue, Arrays.stream(values()).map(Enum::name).collect(Collectors.joining(", ")))));
+        FrontendTransportType result = valueOf(configuredValue.toUpperCase());
+        if (EPOLL == result && !Epoll.isAvailable()) {
+            throw new IllegalStateException("Epoll transport is unavailable.", Epoll.unavailabilityCause());
+        }
+        return result;
+    }
+}
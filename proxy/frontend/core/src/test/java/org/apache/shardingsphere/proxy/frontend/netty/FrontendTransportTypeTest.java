@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.netty;
+
+import io.netty.channel.epoll.Epoll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FrontendTransportTypeTest {
+    
+    @Test
+    void assertOfNio() {
+        assertThat(FrontendTransportType.of("nio"), is(FrontendTransportType.NIO));
+    }
+    
+    @Test
+    void assertOfAuto() {
+        assertThat(FrontendTransportType.of("AUTO"), is(Epoll.isAvailable() ? FrontendTransportType.EPOLL : FrontendTransportType.NIO));
+    }
+    
+    @Test
+    void assertOfInvalidValue() {
+        assertThrows(IllegalArgumentException.class, () -> FrontendTransportType.of("kqueue"));
+    }
+    
+    @Test
+    void assertGetBindCount() {
+        assertThat(FrontendTransportType.EPOLL.getBindCount(4), is(4));
+        assertThat(FrontendTransportType.EPOLL.getBindCount(0), is(1));
+        assertThat(FrontendTransportType.NIO.getBindCount(4), is(1));
+    }
+}
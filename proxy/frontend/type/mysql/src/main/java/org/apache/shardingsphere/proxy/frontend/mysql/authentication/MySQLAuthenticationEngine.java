@@ -28,7 +28,9 @@ import org.apache.shardingsphere.authentication.result.AuthenticationResult;
 import org.apache.shardingsphere.authentication.result.AuthenticationResultBuilder;
 import org.apache.shardingsphere.authority.checker.AuthorityChecker;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCharacterSet;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
@@ -72,6 +74,8 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     
     private byte[] authResponse;
     
+    private boolean compressionRequested;
+    
     private AuthenticationResult currentAuthResult;
     
     @Override
@@ -106,6 +110,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new DatabaseAccessDeniedException(currentAuthResult.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
         }
         writeOKPacket(context);
+        enableCompressionIfNecessary(context);
         return AuthenticationResultBuilder.finished(grantee.getUsername(), grantee.getHostname(), currentAuthResult.getDatabase());
     }
     
@@ -120,6 +125,7 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
             throw new HandshakeException();
         }
         authResponse = handshakeResponsePacket.getAuthResponse();
+        compressionRequested = 0 != (handshakeResponsePacket.getCapabilityFlags() & MySQLCapabilityFlag.CLIENT_COMPRESS.getValue());
         setMultiStatementsOption(context, handshakeResponsePacket);
         setCharacterSet(context, handshakeResponsePacket);
         String database = handshakeResponsePacket.getDatabase();
@@ -177,4 +183,14 @@ public final class MySQLAuthenticationEngine implements AuthenticationEngine {
     private void writeOKPacket(final ChannelHandlerContext context) {
         context.writeAndFlush(new MySQLOKPacket(MySQLStatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
     }
+    
+    private void enableCompressionIfNecessary(final ChannelHandlerContext context) {
+        if (!compressionRequested) {
+            return;
+        }
+        ChannelHandlerContext packetCodecContext = context.pipeline().context(PacketCodec.class);
+        if (null != packetCodecContext) {
+            context.pipeline().addBefore(packetCodecContext.name(), MySQLCompressionCodec.class.getSimpleName(), new MySQLCompressionCodec());
+        }
+    }
 }
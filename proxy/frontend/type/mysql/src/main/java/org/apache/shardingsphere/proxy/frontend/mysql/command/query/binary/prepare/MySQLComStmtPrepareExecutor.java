@@ -20,7 +20,6 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prep
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
-import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.admin.MySQLComSetOptionPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinition41Packet;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLColumnDefinitionFlag;
@@ -85,12 +84,12 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         if (!MySQLComStmtPrepareChecker.isAllowedStatement(sqlStatement)) {
             throw new UnsupportedPreparedStatementException();
         }
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(),
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaDataContexts.getMetaData(),
                 connectionSession.getCurrentDatabaseName(), packet.getHintValueContext()).bind(sqlStatement, Collections.emptyList());
         int statementId = MySQLStatementIdGenerator.getInstance().nextStatementId(connectionSession.getConnectionId());
         MySQLServerPreparedStatement serverPreparedStatement = new MySQLServerPreparedStatement(packet.getSQL(), sqlStatementContext, packet.getHintValueContext(), new CopyOnWriteArrayList<>());
         connectionSession.getServerPreparedStatementRegistry().addPreparedStatement(statementId, serverPreparedStatement);
-        return createPackets(sqlStatementContext, statementId, serverPreparedStatement);
+        return createPackets(metaDataContexts, sqlStatementContext, statementId, serverPreparedStatement);
     }
     
     private void failedIfContainsMultiStatements() {
@@ -102,69 +101,76 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         }
     }
     
-    private Collection<DatabasePacket> createPackets(final SQLStatementContext sqlStatementContext, final int statementId, final MySQLServerPreparedStatement serverPreparedStatement) {
+    private Collection<DatabasePacket> createPackets(final MetaDataContexts metaDataContexts, final SQLStatementContext sqlStatementContext, final int statementId,
+                                                     final MySQLServerPreparedStatement serverPreparedStatement) {
         Collection<DatabasePacket> result = new LinkedList<>();
-        Collection<Projection> projections = getProjections(sqlStatementContext);
         int parameterCount = sqlStatementContext.getSqlStatement().getParameterCount();
         ShardingSpherePreconditions.checkState(parameterCount <= MAX_PARAMETER_COUNT, TooManyPlaceholdersException::new);
-        result.add(new MySQLComStmtPrepareOKPacket(statementId, projections.size(), parameterCount, 0));
+        MySQLPreparedColumnDefinitions columnDefinitions = MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(
+                metaDataContexts, connectionSession.getCurrentDatabaseName(), packet.getSQL(), unused -> loadColumnDefinitions(sqlStatementContext));
+        result.add(new MySQLComStmtPrepareOKPacket(statementId, columnDefinitions.getProjectionColumnDefinitions().size(), parameterCount, 0));
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
         int statusFlags = ServerStatusFlagCalculator.calculateFor(connectionSession, true);
         if (parameterCount > 0) {
-            result.addAll(createParameterColumnDefinition41Packets(sqlStatementContext, characterSet, serverPreparedStatement));
+            for (MySQLPreparedColumnDefinition each : columnDefinitions.getParameterColumnDefinitions()) {
+                result.add(createMySQLColumnDefinition41Packet(characterSet, each));
+                serverPreparedStatement.getParameterColumnDefinitionFlags().add(each.getColumnDefinitionFlag());
+            }
             result.add(new MySQLEofPacket(statusFlags));
         }
-        if (!projections.isEmpty() && sqlStatementContext instanceof SelectStatementContext) {
-            result.addAll(createProjectionColumnDefinition41Packets((SelectStatementContext) sqlStatementContext, characterSet));
+        if (!columnDefinitions.getProjectionColumnDefinitions().isEmpty()) {
+            for (MySQLPreparedColumnDefinition each : columnDefinitions.getProjectionColumnDefinitions()) {
+                result.add(createMySQLColumnDefinition41Packet(characterSet, each));
+            }
             result.add(new MySQLEofPacket(statusFlags));
         }
         return result;
     }
     
-    private Collection<Projection> getProjections(final SQLStatementContext sqlStatementContext) {
-        return sqlStatementContext instanceof SelectStatementContext ? ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getExpandProjections() : Collections.emptyList();
+    private MySQLPreparedColumnDefinitions loadColumnDefinitions(final SQLStatementContext sqlStatementContext) {
+        List<MySQLPreparedColumnDefinition> parameterColumnDefinitions = 0 == sqlStatementContext.getSqlStatement().getParameterCount()
+                ? Collections.emptyList()
+                : loadParameterColumnDefinitions(sqlStatementContext);
+        List<MySQLPreparedColumnDefinition> projectionColumnDefinitions = sqlStatementContext instanceof SelectStatementContext
+                ? loadProjectionColumnDefinitions((SelectStatementContext) sqlStatementContext)
+                : Collections.emptyList();
+        return new MySQLPreparedColumnDefinitions(parameterColumnDefinitions, projectionColumnDefinitions);
     }
     
-    private Collection<MySQLPacket> createParameterColumnDefinition41Packets(final SQLStatementContext sqlStatementContext, final int characterSet,
-                                                                             final MySQLServerPreparedStatement serverPreparedStatement) {
+    private List<MySQLPreparedColumnDefinition> loadParameterColumnDefinitions(final SQLStatementContext sqlStatementContext) {
         List<ShardingSphereColumn> columnsOfParameterMarkers =
                 MySQLComStmtPrepareParameterMarkerExtractor.findColumnsOfParameterMarkers(sqlStatementContext.getSqlStatement(), getSchema(sqlStatementContext));
         Collection<ParameterMarkerSegment> parameterMarkerSegments = ((AbstractSQLStatement) sqlStatementContext.getSqlStatement()).getParameterMarkerSegments();
-        Collection<MySQLPacket> result = new ArrayList<>(parameterMarkerSegments.size());
-        Collection<Integer> paramColumnDefinitionFlags = new ArrayList<>(parameterMarkerSegments.size());
+        List<MySQLPreparedColumnDefinition> result = new ArrayList<>(parameterMarkerSegments.size());
         for (int index = 0; index < parameterMarkerSegments.size(); index++) {
             ShardingSphereColumn column = columnsOfParameterMarkers.isEmpty() ? null : columnsOfParameterMarkers.get(index);
-            if (null != column) {
-                int columnDefinitionFlag = calculateColumnDefinitionFlag(column);
-                result.add(createMySQLColumnDefinition41Packet(characterSet, columnDefinitionFlag, MySQLBinaryColumnType.valueOfJDBCType(column.getDataType())));
-                paramColumnDefinitionFlags.add(columnDefinitionFlag);
-            } else {
-                result.add(createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING));
-                paramColumnDefinitionFlags.add(0);
-            }
+            result.add(null == column ? new MySQLPreparedColumnDefinition(0, MySQLBinaryColumnType.VAR_STRING) : createColumnDefinition(column));
         }
-        serverPreparedStatement.getParameterColumnDefinitionFlags().addAll(paramColumnDefinitionFlags);
         return result;
     }
     
-    private Collection<MySQLPacket> createProjectionColumnDefinition41Packets(final SelectStatementContext selectStatementContext, final int characterSet) {
+    private List<MySQLPreparedColumnDefinition> loadProjectionColumnDefinitions(final SelectStatementContext selectStatementContext) {
         Collection<Projection> projections = selectStatementContext.getProjectionsContext().getExpandProjections();
         ShardingSphereSchema schema = getSchema(selectStatementContext);
-        Collection<MySQLPacket> result = new ArrayList<>(projections.size());
+        List<MySQLPreparedColumnDefinition> result = new ArrayList<>(projections.size());
         for (Projection each : projections) {
             // TODO Calculate column definition flag for other projection types
             if (each instanceof ColumnProjection) {
                 result.add(Optional.ofNullable(schema.getTable(((ColumnProjection) each).getOriginalTable().getValue()))
                         .map(table -> table.getColumn(((ColumnProjection) each).getOriginalColumn().getValue()))
-                        .map(column -> createMySQLColumnDefinition41Packet(characterSet, calculateColumnDefinitionFlag(column), MySQLBinaryColumnType.valueOfJDBCType(column.getDataType())))
-                        .orElseGet(() -> createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING)));
+                        .map(this::createColumnDefinition)
+                        .orElseGet(() -> new MySQLPreparedColumnDefinition(0, MySQLBinaryColumnType.VAR_STRING)));
             } else {
-                result.add(createMySQLColumnDefinition41Packet(characterSet, 0, MySQLBinaryColumnType.VAR_STRING));
+                result.add(new MySQLPreparedColumnDefinition(0, MySQLBinaryColumnType.VAR_STRING));
             }
         }
         return result;
     }
     
+    private MySQLPreparedColumnDefinition createColumnDefinition(final ShardingSphereColumn column) {
+        return new MySQLPreparedColumnDefinition(calculateColumnDefinitionFlag(column), MySQLBinaryColumnType.valueOfJDBCType(column.getDataType()));
+    }
+    
     private ShardingSphereSchema getSchema(final SQLStatementContext sqlStatementContext) {
         String databaseName = ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().orElseGet(connectionSession::getCurrentDatabaseName);
         ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName);
@@ -179,7 +185,7 @@ public final class MySQLComStmtPrepareExecutor implements CommandExecutor {
         return result;
     }
     
-    private MySQLColumnDefinition41Packet createMySQLColumnDefinition41Packet(final int characterSet, final int columnDefinitionFlag, final MySQLBinaryColumnType columnType) {
-        return new MySQLColumnDefinition41Packet(characterSet, columnDefinitionFlag, "", "", "", "", "", 0, columnType, 0, false);
+    private MySQLColumnDefinition41Packet createMySQLColumnDefinition41Packet(final int characterSet, final MySQLPreparedColumnDefinition columnDefinition) {
+        return new MySQLColumnDefinition41Packet(characterSet, columnDefinition.getColumnDefinitionFlag(), "", "", "", "", "", 0, columnDefinition.getColumnType(), 0, false);
     }
 }
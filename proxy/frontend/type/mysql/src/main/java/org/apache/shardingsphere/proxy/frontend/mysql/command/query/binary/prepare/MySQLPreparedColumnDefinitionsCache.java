@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * MySQL prepared column definitions cache.
+ * Column definitions of prepared statements are shared among connection sessions,
+ * and are invalidated when meta data contexts are renewed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MySQLPreparedColumnDefinitionsCache {
+    
+    private static final MySQLPreparedColumnDefinitionsCache INSTANCE = new MySQLPreparedColumnDefinitionsCache();
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private final Map<String, Cache<String, MySQLPreparedColumnDefinitions>> columnDefinitions = new ConcurrentHashMap<>();
+    
+    private final AtomicReference<MetaDataContexts> loadedMetaDataContexts = new AtomicReference<>();
+    
+    /**
+     * Get MySQL prepared column definitions cache.
+     *
+     * @return got instance
+     */
+    public static MySQLPreparedColumnDefinitionsCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get column definitions, load them if absent.
+     *
+     * @param metaDataContexts current meta data contexts
+     * @param databaseName current database name
+     * @param sql prepared SQL
+     * @param loader loader of column definitions
+     * @return column definitions
+     */
+    public MySQLPreparedColumnDefinitions getOrLoad(final MetaDataContexts metaDataContexts, final String databaseName, final String sql,
+                                                    final Function<String, MySQLPreparedColumnDefinitions> loader) {
+        MetaDataContexts loaded = loadedMetaDataContexts.get();
+        if (loaded != metaDataContexts && loadedMetaDataContexts.compareAndSet(loaded, metaDataContexts)) {
+            columnDefinitions.clear();
+        }
+        return columnDefinitions.computeIfAbsent(null == databaseName ? "" : databaseName, key -> Caffeine.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build()).get(sql, loader);
+    }
+}
@@ -28,7 +28,9 @@ import org.apache.shardingsphere.authentication.AuthenticatorFactory;
 import org.apache.shardingsphere.authentication.result.AuthenticationResultBuilder;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
+import org.apache.shardingsphere.db.protocol.codec.PacketCodec;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLCapabilityFlag;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConnectionPhase;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
@@ -74,6 +76,7 @@ import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -83,6 +86,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -281,6 +285,39 @@ class MySQLAuthenticationEngineTest {
         verify(context).writeAndFlush(any(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertAuthenticateSuccessWithCompressionRequested() {
+        ChannelHandlerContext context = mockAuthenticatedChannelHandlerContext();
+        authenticationEngine.authenticate(context, getPayload("root", null, authResponse, MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue() | MySQLCapabilityFlag.CLIENT_COMPRESS.getValue()));
+        assertTrue(isCompressionRequested());
+        verify(context.pipeline()).addBefore(eq(PacketCodec.class.getSimpleName()), eq(MySQLCompressionCodec.class.getSimpleName()), any(MySQLCompressionCodec.class));
+    }
+    
+    @Test
+    void assertAuthenticateSuccessWithoutCompressionRequested() {
+        ChannelHandlerContext context = mockAuthenticatedChannelHandlerContext();
+        authenticationEngine.authenticate(context, getPayload("root", null, authResponse, MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue() | MySQLCapabilityFlag.CLIENT_LONG_PASSWORD.getValue()));
+        assertFalse(isCompressionRequested());
+        verify(context.pipeline(), never()).addBefore(anyString(), anyString(), any(MySQLCompressionCodec.class));
+    }
+    
+    private ChannelHandlerContext mockAuthenticatedChannelHandlerContext() {
+        setConnectionPhase(MySQLConnectionPhase.AUTH_PHASE_FAST_PATH);
+        AuthorityRule rule = mock(AuthorityRule.class);
+        when(rule.getAuthenticatorType(any())).thenReturn("");
+        ShardingSphereUser user = new ShardingSphereUser("root", "", "127.0.0.1");
+        when(rule.findUser(user.getGrantee())).thenReturn(Optional.of(user));
+        ContextManager contextManager = mockContextManager(rule);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ChannelHandlerContext result = mockChannelHandlerContext();
+        ChannelPipeline pipeline = mock(ChannelPipeline.class);
+        ChannelHandlerContext packetCodecContext = mock(ChannelHandlerContext.class);
+        when(packetCodecContext.name()).thenReturn(PacketCodec.class.getSimpleName());
+        when(pipeline.context(PacketCodec.class)).thenReturn(packetCodecContext);
+        when(result.pipeline()).thenReturn(pipeline);
+        return result;
+    }
+    
     private ContextManager mockContextManager(final AuthorityRule rule) {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         MetaDataPersistService metaDataPersistService = mock(MetaDataPersistService.class, RETURNS_DEEP_STUBS);
@@ -293,9 +330,13 @@ class MySQLAuthenticationEngineTest {
     }
     
     private MySQLPacketPayload getPayload(final String username, final String database, final byte[] authResponse) {
+        return getPayload(username, database, authResponse, MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue());
+    }
+    
+    private MySQLPacketPayload getPayload(final String username, final String database, final byte[] authResponse, final int capabilityFlags) {
         MySQLPacketPayload result = mock(MySQLPacketPayload.class);
         when(result.readInt1()).thenReturn(1);
-        when(result.readInt4()).thenReturn(MySQLCapabilityFlag.CLIENT_CONNECT_WITH_DB.getValue());
+        when(result.readInt4()).thenReturn(capabilityFlags);
         when(result.readStringNul()).thenReturn(username).thenReturn(database);
         when(result.readStringNulByBytes()).thenReturn(authResponse);
         return result;
@@ -334,6 +375,11 @@ class MySQLAuthenticationEngineTest {
         return (MySQLConnectionPhase) Plugins.getMemberAccessor().get(MySQLAuthenticationEngine.class.getDeclaredField("connectionPhase"), authenticationEngine);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private boolean isCompressionRequested() {
+        return (boolean) Plugins.getMemberAccessor().get(MySQLAuthenticationEngine.class.getDeclaredField("compressionRequested"), authenticationEngine);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private byte[] getAuthResponse() {
         return (byte[]) Plugins.getMemberAccessor().get(MySQLAuthenticationEngine.class.getDeclaredField("authResponse"), authenticationEngine);
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare;
+
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MySQLPreparedColumnDefinitionsCacheTest {
+    
+    @AfterEach
+    void tearDown() throws ReflectiveOperationException {
+        ((Map<?, ?>) Plugins.getMemberAccessor().get(MySQLPreparedColumnDefinitionsCache.class.getDeclaredField("columnDefinitions"), MySQLPreparedColumnDefinitionsCache.getInstance())).clear();
+    }
+    
+    @Test
+    void assertGetOrLoadWithSameMetaDataContexts() {
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        MySQLPreparedColumnDefinitions expected = MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(metaDataContexts, "foo_db", "SELECT 1", this::createColumnDefinitions);
+        assertThat(MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(metaDataContexts, "foo_db", "SELECT 1", this::createColumnDefinitions), sameInstance(expected));
+        assertThat(MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(metaDataContexts, "bar_db", "SELECT 1", this::createColumnDefinitions), not(sameInstance(expected)));
+    }
+    
+    @Test
+    void assertGetOrLoadWithRenewedMetaDataContexts() {
+        MySQLPreparedColumnDefinitions expected = MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(mock(MetaDataContexts.class), "foo_db", "SELECT 1", this::createColumnDefinitions);
+        assertThat(MySQLPreparedColumnDefinitionsCache.getInstance().getOrLoad(mock(MetaDataContexts.class), "foo_db", "SELECT 1", this::createColumnDefinitions), not(sameInstance(expected)));
+    }
+    
+    private MySQLPreparedColumnDefinitions createColumnDefinitions(final String sql) {
+        return new MySQLPreparedColumnDefinitions(Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -53,6 +53,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extende
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Command executor factory for openGauss.
@@ -95,16 +96,17 @@ public final class OpenGaussCommandExecutorFactory {
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
                                                                                    final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
-        int batchPacketBeginIndex = aggregatedCommandPacket.getBatchPacketBeginIndex();
-        int batchPacketEndIndex = aggregatedCommandPacket.getBatchPacketEndIndex();
-        List<CommandExecutor> result = new ArrayList<>(batchPacketBeginIndex + packets.size() - batchPacketEndIndex);
-        for (int i = 0; i < batchPacketBeginIndex; i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
-            result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
-        }
-        result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(batchPacketBeginIndex, batchPacketEndIndex + 1)));
-        for (int i = batchPacketEndIndex + 1; i < packets.size(); i++) {
-            PostgreSQLCommandPacket each = packets.get(i);
+        Map<Integer, Integer> batchPacketIndexes = aggregatedCommandPacket.getBatchPacketIndexes();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int index = 0;
+        while (index < packets.size()) {
+            Integer batchPacketEndIndex = batchPacketIndexes.get(index);
+            if (null != batchPacketEndIndex) {
+                result.add(new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, packets.subList(index, batchPacketEndIndex + 1)));
+                index = batchPacketEndIndex + 1;
+                continue;
+            }
+            PostgreSQLCommandPacket each = packets.get(index++);
             result.add(getCommandExecutor((CommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
         return result;
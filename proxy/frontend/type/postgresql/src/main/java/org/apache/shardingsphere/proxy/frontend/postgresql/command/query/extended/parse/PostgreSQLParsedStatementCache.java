@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * PostgreSQL parsed statement cache.
+ * Escaped SQL and parameter marker indexes of parsed statements are shared among connection sessions,
+ * and are invalidated when meta data contexts are renewed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLParsedStatementCache {
+    
+    private static final PostgreSQLParsedStatementCache INSTANCE = new PostgreSQLParsedStatementCache();
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private final Map<String, Cache<String, PostgreSQLParsedStatement>> parsedStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicReference<MetaDataContexts> loadedMetaDataContexts = new AtomicReference<>();
+    
+    /**
+     * Get PostgreSQL parsed statement cache.
+     *
+     * @return got instance
+     */
+    public static PostgreSQLParsedStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get parsed statement, load it if absent.
+     *
+     * @param metaDataContexts current meta data contexts
+     * @param protocolType protocol type
+     * @param sql SQL to be parsed
+     * @param loader loader of parsed statement
+     * @return parsed statement
+     */
+    public PostgreSQLParsedStatement getOrLoad(final MetaDataContexts metaDataContexts, final DatabaseType protocolType, final String sql,
+                                               final Function<String, PostgreSQLParsedStatement> loader) {
+        MetaDataContexts loaded = loadedMetaDataContexts.get();
+        if (loaded != metaDataContexts && loadedMetaDataContexts.compareAndSet(loaded, metaDataContexts)) {
+            parsedStatements.clear();
+        }
+        return parsedStatements.computeIfAbsent(protocolType.getType(), key -> Caffeine.newBuilder().softValues().maximumSize(MAXIMUM_SIZE).build()).get(sql, loader);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostgreSQLParsedStatementCacheTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+    
+    @AfterEach
+    void tearDown() throws ReflectiveOperationException {
+        ((Map<?, ?>) Plugins.getMemberAccessor().get(PostgreSQLParsedStatementCache.class.getDeclaredField("parsedStatements"), PostgreSQLParsedStatementCache.getInstance())).clear();
+    }
+    
+    @Test
+    void assertGetOrLoadWithSameMetaDataContexts() {
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class);
+        PostgreSQLParsedStatement expected = PostgreSQLParsedStatementCache.getInstance().getOrLoad(metaDataContexts, databaseType, "SELECT 1", this::createParsedStatement);
+        assertThat(PostgreSQLParsedStatementCache.getInstance().getOrLoad(metaDataContexts, databaseType, "SELECT 1", this::createParsedStatement), sameInstance(expected));
+        assertThat(PostgreSQLParsedStatementCache.getInstance().getOrLoad(metaDataContexts, databaseType, "SELECT 2", this::createParsedStatement).getSql(), is("SELECT 2"));
+    }
+    
+    @Test
+    void assertGetOrLoadWithRenewedMetaDataContexts() {
+        PostgreSQLParsedStatement expected = PostgreSQLParsedStatementCache.getInstance().getOrLoad(mock(MetaDataContexts.class), databaseType, "SELECT 1", this::createParsedStatement);
+        assertThat(PostgreSQLParsedStatementCache.getInstance().getOrLoad(mock(MetaDataContexts.class), databaseType, "SELECT 1", this::createParsedStatement), not(sameInstance(expected)));
+    }
+    
+    private PostgreSQLParsedStatement createParsedStatement(final String sql) {
+        return new PostgreSQLParsedStatement(sql, mock(SQLStatement.class), Collections.emptyList());
+    }
+}
@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -57,6 +58,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -152,6 +155,53 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertWriteGroupedDataRecordsInOneTransaction() throws SQLException {
+        DataRecord deleteRecord = getDataRecord(PipelineSQLOperationType.DELETE);
+        DataRecord insertRecord = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        insertRecord.addColumn(new NormalColumn("id", null, 2, false, true));
+        insertRecord.addColumn(new NormalColumn("user", null, 20, true, false));
+        insertRecord.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.INSERT, true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(deleteRecord, insertRecord));
+        importer.run();
+        verify(connection).setAutoCommit(false);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertWriteGroupedDataRecordsWithoutSingleTransaction() throws SQLException {
+        DataRecord deleteRecord = getDataRecord(PipelineSQLOperationType.DELETE);
+        DataRecord insertRecord = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        insertRecord.addColumn(new NormalColumn("id", null, 2, false, true));
+        insertRecord.addColumn(new NormalColumn("user", null, 20, true, false));
+        insertRecord.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.INSERT, true, false));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(deleteRecord, insertRecord));
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager(), false);
+        new SingleChannelConsumerImporter(channel, 100, 1000L, pipelineSink, new FixtureTransmissionJobItemContext()).run();
+        verify(connection, never()).setAutoCommit(false);
+        verify(preparedStatement, times(2)).executeBatch();
+        verify(connection, never()).commit();
+    }
+    
+    @Test
+    void assertWriteDataRecordsInOriginalOrderWhenPrimaryKeyUpdated() throws SQLException {
+        DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
+        DataRecord insertRecord = getDataRecord(PipelineSQLOperationType.INSERT);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(updateRecord, insertRecord));
+        importer.run();
+        InOrder inOrder = inOrder(connection, preparedStatement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(connection).commit();
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new NormalColumn("id", 1, 2, true, true));
@@ -160,9 +210,8 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new IngestFinishedPosition()));
         return result;
     }
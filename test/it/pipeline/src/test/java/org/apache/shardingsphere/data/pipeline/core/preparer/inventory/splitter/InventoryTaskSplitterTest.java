@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -113,6 +114,20 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperContext.getCommonContext());
+        dumperContext.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+        assertThat(actual.size(), is(3));
+        StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k01"));
+        assertThat(firstPosition.getEndValue(), is("k10"));
+        StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(2).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k21"));
+        assertThat(lastPosition.getEndValue(), is("k25"));
+    }
+    
     @Test
     void assertSplitWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperContext.getCommonContext());
@@ -176,6 +191,19 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 25; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%02d', 'x')", i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (
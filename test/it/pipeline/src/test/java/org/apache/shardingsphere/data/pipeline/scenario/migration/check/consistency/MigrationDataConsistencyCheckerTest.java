@@ -35,6 +35,8 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.test.it.data.pipeline.core.util.JobConfigurationBuilder;
 import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContextUtils;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +44,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -69,6 +72,24 @@ class MigrationDataConsistencyCheckerTest {
         assertTrue(actual.get(checkKey).isMatched());
     }
     
+    @Test
+    void assertCheckConcurrentlyAndRecordCheckedTables() throws SQLException {
+        MigrationJobConfiguration jobConfig = createJobConfiguration();
+        JobConfigurationPOJO jobConfigurationPOJO = new JobConfigurationPOJO();
+        jobConfigurationPOJO.setJobParameter(YamlEngine.marshal(new YamlMigrationJobConfigurationSwapper().swapToYamlConfiguration(jobConfig)));
+        jobConfigurationPOJO.setJobName(jobConfig.getJobId());
+        jobConfigurationPOJO.setShardingTotalCount(1);
+        PipelineGovernanceFacade governanceFacade = PipelineAPIFactory.getPipelineGovernanceFacade(PipelineContextUtils.getContextKey());
+        getClusterPersistRepository().persist(String.format("/pipeline/jobs/%s/config", jobConfig.getJobId()), YamlEngine.marshal(jobConfigurationPOJO));
+        governanceFacade.getJobItemFacade().getProcess().persist(jobConfig.getJobId(), 0, "");
+        ConsistencyCheckJobItemProgressContext progressContext = createConsistencyCheckJobItemProgressContext(jobConfig.getJobId());
+        Properties props = PropertiesBuilder.build(new Property("table-concurrency", "2"), new Property("data-source-concurrency", "1"));
+        Map<String, TableDataConsistencyCheckResult> actual = new MigrationDataConsistencyChecker(jobConfig, new TransmissionProcessContext(jobConfig.getJobId(), null), progressContext)
+                .check("FIXTURE", props);
+        assertTrue(actual.get("t_order").isMatched());
+        assertTrue(progressContext.getCheckedTableNames().contains("ds_0.t_order"));
+    }
+    
     private ClusterPersistRepository getClusterPersistRepository() {
         ContextManager contextManager = PipelineContextManager.getContext(PipelineContextUtils.getContextKey()).getContextManager();
         return (ClusterPersistRepository) contextManager.getPersistServiceFacade().getRepository();